@@ -0,0 +1,119 @@
+package com.cmze.routing;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public final class ConsistentHashRing {
+
+    public static final String AFFINITY_METADATA = "room-affinity";
+    public static final String WEIGHT_METADATA = "room-affinity-weight";
+
+    private static final int VIRTUAL_NODES_PER_WEIGHT = 128;
+
+    private final long[] points;
+    private final ServiceInstance[] owners;
+    private final String signature;
+
+    private ConsistentHashRing(final long[] points, final ServiceInstance[] owners, final String signature) {
+        this.points = points;
+        this.owners = owners;
+        this.signature = signature;
+    }
+
+    public static ConsistentHashRing build(final List<ServiceInstance> instances) {
+        final var members = members(instances);
+        final var nodes = new ArrayList<Node>();
+
+        for (final var instance : members) {
+            final var nodeId = nodeId(instance);
+            final int replicas = VIRTUAL_NODES_PER_WEIGHT * weight(instance);
+
+            for (int replica = 0; replica < replicas; replica++) {
+                nodes.add(new Node(hash(nodeId + "#" + replica), instance));
+            }
+        }
+        nodes.sort(Comparator.comparingLong(Node::point));
+
+        final var points = new long[nodes.size()];
+        final var owners = new ServiceInstance[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            points[i] = nodes.get(i).point();
+            owners[i] = nodes.get(i).instance();
+        }
+        return new ConsistentHashRing(points, owners, signature(members));
+    }
+
+    public ServiceInstance locate(final String key) {
+        if (points.length == 0) {
+            return null;
+        }
+
+        final long point = hash(key);
+        int index = Arrays.binarySearch(points, point);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public boolean matches(final List<ServiceInstance> instances) {
+        return signature.equals(signature(members(instances)));
+    }
+
+    public int size() {
+        return (int) Arrays.stream(owners).map(ConsistentHashRing::nodeId).distinct().count();
+    }
+
+    private static List<ServiceInstance> members(final List<ServiceInstance> instances) {
+        return instances.stream()
+                .filter(instance -> Boolean.parseBoolean(instance.getMetadata().get(AFFINITY_METADATA)))
+                .sorted(Comparator.comparing(ConsistentHashRing::nodeId))
+                .toList();
+    }
+
+    private static String signature(final List<ServiceInstance> members) {
+        final var builder = new StringBuilder();
+        for (final var instance : members) {
+            builder.append(nodeId(instance)).append('*').append(weight(instance)).append(';');
+        }
+        return builder.toString();
+    }
+
+    private static String nodeId(final ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static int weight(final ServiceInstance instance) {
+        final var weight = instance.getMetadata().get(WEIGHT_METADATA);
+        try {
+            return weight != null ? Math.max(1, Integer.parseInt(weight)) : 1;
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private static long hash(final String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Node(long point, ServiceInstance instance) {
+    }
+}
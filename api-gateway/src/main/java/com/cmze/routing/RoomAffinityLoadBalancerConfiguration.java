@@ -0,0 +1,22 @@
+package com.cmze.routing;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+public class RoomAffinityLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> roomAffinityLoadBalancer(final Environment environment,
+                                                                          final LoadBalancerClientFactory loadBalancerClientFactory) {
+        final var serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+
+        return new RoomAffinityLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId
+        );
+    }
+}
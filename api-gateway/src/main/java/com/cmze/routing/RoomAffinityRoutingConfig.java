@@ -0,0 +1,13 @@
+package com.cmze.routing;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClients({
+        @LoadBalancerClient(name = "quiz-service", configuration = RoomAffinityLoadBalancerConfiguration.class),
+        @LoadBalancerClient(name = "survey-service", configuration = RoomAffinityLoadBalancerConfiguration.class)
+})
+public class RoomAffinityRoutingConfig {
+}
@@ -21,4 +21,6 @@ public class GetContestRoomDetailsResponse {
 
     private List<ContestLeaderboardEntryDto> leaderboard;
     private StageSettingsResponse currentStageSettings;
+
+    private int connectedParticipants;
 }
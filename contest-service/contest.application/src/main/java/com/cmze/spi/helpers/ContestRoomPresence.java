@@ -0,0 +1,5 @@
+package com.cmze.spi.helpers;
+
+public interface ContestRoomPresence {
+    int connectedCount(Long contestId);
+}
@@ -9,6 +9,7 @@ import com.cmze.response.GetContestRoomDetailsResponse;
 import com.cmze.response.stagesettings.StageSettingsResponse;
 import com.cmze.shared.ActionResult;
 import com.cmze.spi.StageSettingsContext;
+import com.cmze.spi.helpers.ContestRoomPresence;
 import com.cmze.spi.leadboard.ContestLeaderboardEntryDto;
 import com.cmze.usecase.UseCase;
 import org.slf4j.Logger;
@@ -31,15 +32,18 @@ public class GetContestRoomDetailsUseCase {
     private final RoomRepository roomRepository;
     private final ParticipantRepository participantRepository;
     private final StageSettingsContext stageContext;
+    private final ContestRoomPresence contestRoomPresence;
 
     public GetContestRoomDetailsUseCase(final ContestRepository contestRepository,
                                         final RoomRepository roomRepository,
                                         final ParticipantRepository participantRepository,
-                                        final StageSettingsContext stageContext) {
+                                        final StageSettingsContext stageContext,
+                                        final ContestRoomPresence contestRoomPresence) {
         this.contestRepository = contestRepository;
         this.roomRepository = roomRepository;
         this.participantRepository = participantRepository;
         this.stageContext = stageContext;
+        this.contestRoomPresence = contestRoomPresence;
     }
 
     @Transactional(readOnly = true)
@@ -64,7 +68,8 @@ public class GetContestRoomDetailsUseCase {
                         null,
                         null,
                         leaderBoard,
-                        null
+                        null,
+                        0
                 );
                 return ActionResult.success(response);
             }
@@ -102,7 +107,8 @@ public class GetContestRoomDetailsUseCase {
                     currentPos,
                     currentStageId,
                     leaderBoard,
-                    settings
+                    settings,
+                    contestRoomPresence.connectedCount(contestId)
             );
 
             return ActionResult.success(response);
@@ -0,0 +1,15 @@
+package com.cmze.configuration;
+
+import com.cmze.external.routing.RoomAffinityLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+// Internal Feign calls for a room must reach the instance that owns it, exactly as the gateway routes them.
+@Configuration
+@LoadBalancerClients({
+        @LoadBalancerClient(name = "quiz-service", configuration = RoomAffinityLoadBalancerConfiguration.class),
+        @LoadBalancerClient(name = "survey-service", configuration = RoomAffinityLoadBalancerConfiguration.class)
+})
+public class RoomAffinityRoutingConfig {
+}
@@ -0,0 +1,98 @@
+package com.cmze.external.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class RoomAffinityLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomAffinityLoadBalancer.class);
+
+    private static final Pattern ROOM_PATH = Pattern.compile("/room/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?:/|$)");
+    private static final String ROOM_PARAM = "roomId";
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final AtomicInteger position = new AtomicInteger(ThreadLocalRandom.current().nextInt(1000));
+
+    private volatile ConsistentHashRing ring = ConsistentHashRing.build(List.of());
+
+    public RoomAffinityLoadBalancer(final ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                    final String serviceId) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(final Request request) {
+        final var supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        final var roomId = roomId(request);
+
+        return supplier.get(request).next()
+                .map(instances -> select(instances, roomId));
+    }
+
+    private Response<ServiceInstance> select(final List<ServiceInstance> instances, final String roomId) {
+        if (instances.isEmpty()) {
+            logger.warn("No instances available for {}", serviceId);
+            return new EmptyResponse();
+        }
+
+        if (roomId != null) {
+            final var owner = ringFor(instances).locate(roomId);
+            if (owner != null) {
+                return new DefaultResponse(owner);
+            }
+        }
+
+        final int index = Math.floorMod(position.incrementAndGet(), instances.size());
+        return new DefaultResponse(instances.get(index));
+    }
+
+    private ConsistentHashRing ringFor(final List<ServiceInstance> instances) {
+        final var current = ring;
+        if (current.matches(instances)) {
+            return current;
+        }
+
+        final var rebuilt = ConsistentHashRing.build(instances);
+        ring = rebuilt;
+        logger.info("Room ownership for {} rebalanced over {} instances", serviceId, rebuilt.size());
+        return rebuilt;
+    }
+
+    private static String roomId(final Request<?> request) {
+        if (!(request.getContext() instanceof RequestDataContext context) || context.getClientRequest() == null) {
+            return null;
+        }
+
+        final var url = context.getClientRequest().getUrl();
+        if (url == null) {
+            return null;
+        }
+
+        final var param = UriComponentsBuilder.fromUri(url).build().getQueryParams().getFirst(ROOM_PARAM);
+        if (param != null && !param.isBlank()) {
+            return param.toLowerCase();
+        }
+
+        final var matcher = ROOM_PATH.matcher(url.getPath());
+        return matcher.find() ? matcher.group(1).toLowerCase() : null;
+    }
+}
@@ -0,0 +1,183 @@
+package com.cmze.internal.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class ContestBroadcastDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContestBroadcastDispatcher.class);
+
+    private static final int DRAIN_BATCH = 64;
+
+    private final ExecutorService executor;
+    private final Semaphore capacity;
+    private final long offerTimeoutMs;
+    private final long tombstoneTtlMs;
+    private final Map<String, ContestLane> lanes = new ConcurrentHashMap<>();
+    // released contests stay here for a while so late events are dropped instead of opening a new lane
+    private final Map<String, Long> released = new ConcurrentHashMap<>();
+
+    private final Counter dropped;
+    private final Counter rejected;
+    private final Timer latency;
+
+    public ContestBroadcastDispatcher(final MeterRegistry meterRegistry,
+                                   @Value("${app.contest.ws.dispatch.threads:4}") final int threads,
+                                   @Value("${app.contest.ws.dispatch.queue-capacity:10000}") final int queueCapacity,
+                                   @Value("${app.contest.ws.dispatch.offer-timeout-ms:50}") final long offerTimeoutMs,
+                                   @Value("${app.contest.ws.dispatch.tombstone-ttl-ms:600000}") final long tombstoneTtlMs) {
+        this.capacity = new Semaphore(queueCapacity);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.tombstoneTtlMs = tombstoneTtlMs;
+
+        final var threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final var thread = new Thread(runnable, "contest-ws-dispatch-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.dropped = Counter.builder("contest.ws.dispatch.dropped")
+                .description("Non-critical broadcasts dropped because the dispatch queue was full")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("contest.ws.dispatch.rejected")
+                .description("Critical broadcasts rejected because the dispatch queue stayed full past the offer timeout")
+                .register(meterRegistry);
+        this.latency = Timer.builder("contest.ws.dispatch.latency")
+                .description("Time from dispatch to completed broadcast")
+                .register(meterRegistry);
+        Gauge.builder("contest.ws.dispatch.pending", capacity, permits -> queueCapacity - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    public void dispatch(final String contestId, final Runnable task) {
+        submit(contestId, task, true);
+    }
+
+    public void dispatchDroppable(final String contestId, final Runnable task) {
+        submit(contestId, task, false);
+    }
+
+    public void release(final String contestId) {
+        final long now = System.currentTimeMillis();
+        released.put(contestId, now);
+        released.values().removeIf(releasedAt -> now - releasedAt > tombstoneTtlMs);
+
+        final var lane = lanes.get(contestId);
+        if (lane != null) {
+            retire(contestId, lane);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void submit(final String contestId, final Runnable task, final boolean critical) {
+        if (released.containsKey(contestId)) {
+            logger.debug("Contest {} already released, dropping broadcast", contestId);
+            return;
+        }
+
+        if (!acquire(critical)) {
+            if (!critical) {
+                dropped.increment();
+                logger.debug("Dispatch queue full, dropping broadcast for contest {}", contestId);
+                return;
+            }
+            rejected.increment();
+            logger.error("Dispatch queue full for {} ms, rejecting critical broadcast for contest {}", offerTimeoutMs, contestId);
+            throw new RejectedExecutionException("Broadcast dispatch queue is full");
+        }
+
+        final long enqueuedAt = System.nanoTime();
+        final var lane = lanes.computeIfAbsent(contestId, id -> new ContestLane());
+
+        lane.tasks.add(() -> run(contestId, task, enqueuedAt));
+        if (released.containsKey(contestId)) {
+            // released while this task was being queued; the lane must not outlive it
+            retire(contestId, lane);
+        }
+        schedule(lane);
+    }
+
+    private void retire(final String contestId, final ContestLane lane) {
+        lane.tasks.add(() -> lanes.remove(contestId, lane));
+        schedule(lane);
+    }
+
+    private boolean acquire(final boolean critical) {
+        if (capacity.tryAcquire()) {
+            return true;
+        }
+        if (!critical) {
+            return false;
+        }
+
+        try {
+            return capacity.tryAcquire(offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void schedule(final ContestLane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(final ContestLane lane) {
+        for (int processed = 0; processed < DRAIN_BATCH; processed++) {
+            final var next = lane.tasks.poll();
+            if (next == null) {
+                break;
+            }
+            next.run();
+        }
+
+        lane.scheduled.set(false);
+        if (!lane.tasks.isEmpty()) {
+            schedule(lane);
+        }
+    }
+
+    private void run(final String contestId, final Runnable task, final long enqueuedAt) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            logger.error("Broadcast for contest {} failed", contestId, e);
+        } finally {
+            capacity.release();
+            latency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class ContestLane {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+}
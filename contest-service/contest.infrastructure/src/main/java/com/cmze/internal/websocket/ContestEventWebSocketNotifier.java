@@ -4,23 +4,24 @@ import com.cmze.internal.websocket.messages.*;
 import com.cmze.ws.event.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
-
-import java.time.Instant;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 public class ContestEventWebSocketNotifier {
 
     private static final Logger logger = LoggerFactory.getLogger(ContestEventWebSocketNotifier.class);
     private final SimpMessagingTemplate messagingTemplate;
+    private final ContestBroadcastDispatcher dispatcher;
 
-    public ContestEventWebSocketNotifier(final SimpMessagingTemplate messagingTemplate) {
+    public ContestEventWebSocketNotifier(final SimpMessagingTemplate messagingTemplate,
+                                         final ContestBroadcastDispatcher dispatcher) {
         this.messagingTemplate = messagingTemplate;
+        this.dispatcher = dispatcher;
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleStageChanged(final ContestStageChangedEvent event) {
         final var contestId = event.getContestId();
         final var topic = "/topic/contest/" + contestId;
@@ -31,13 +32,15 @@ public class ContestEventWebSocketNotifier {
                 event.getStageType()
         );
 
-        logger.info("Contest: Stage changed in {} to {} ({})",
-                contestId, event.getStageName(), event.getStageType());
+        dispatcher.dispatch(String.valueOf(contestId), () -> {
+            logger.info("Contest: Stage changed in {} to {} ({})",
+                    contestId, event.getStageName(), event.getStageType());
 
-        messagingTemplate.convertAndSend(topic, payload);
+            messagingTemplate.convertAndSend(topic, payload);
+        });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleParticipantJoined(final ContestParticipantJoinedEvent event) {
         final var contestId = event.getContestId();
         final var topic = "/topic/contest/" + contestId;
@@ -47,12 +50,14 @@ public class ContestEventWebSocketNotifier {
                 event.getDisplayName()
         );
 
-        logger.info("Contest: User {} joined live room {}", event.getDisplayName(), contestId);
+        dispatcher.dispatchDroppable(contestId, () -> {
+            logger.info("Contest: User {} joined live room {}", event.getDisplayName(), contestId);
 
-        messagingTemplate.convertAndSend(topic, payload);
+            messagingTemplate.convertAndSend(topic, payload);
+        });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleVoteRecorded(final ContestVoteRecordedEvent event) {
         final var topic = "/topic/contest/" + event.getContestId();
 
@@ -61,10 +66,10 @@ public class ContestEventWebSocketNotifier {
                 event.getNewTotalScore()
         );
 
-        messagingTemplate.convertAndSend(topic, payload);
+        dispatcher.dispatchDroppable(event.getContestId(), () -> messagingTemplate.convertAndSend(topic, payload));
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleSubmissionPresented(final ContestSubmissionPresentedEvent event) {
         final var topic = "/topic/contest/" + event.getContestId();
 
@@ -75,67 +80,80 @@ public class ContestEventWebSocketNotifier {
                 event.getContentType()
         );
 
-        logger.info("WS: Presenting submission {} in contest {}", event.getSubmissionId(), event.getContestId());
-        messagingTemplate.convertAndSend(topic, payload);
+        dispatcher.dispatch(event.getContestId(), () -> {
+            logger.info("WS: Presenting submission {} in contest {}", event.getSubmissionId(), event.getContestId());
+            messagingTemplate.convertAndSend(topic, payload);
+        });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleContestFinished(final ContestFinishedEvent event) {
-        final var topic = "/topic/contest/" + event.getContestId();
+        final var contestId = String.valueOf(event.getContestId());
+        final var topic = "/topic/contest/" + contestId;
 
         final var payload = new ContestFinishedSocketMessage(event.getContestId());
 
-        logger.info("WS: Contest finished {}", event.getContestId());
-        messagingTemplate.convertAndSend(topic, payload);
+        try {
+            dispatcher.dispatch(contestId, () -> {
+                logger.info("WS: Contest finished {}", contestId);
+                messagingTemplate.convertAndSend(topic, payload);
+            });
+        } finally {
+            dispatcher.release(contestId);
+        }
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleInvitationsGenerated(final InvitationsGeneratedEvent event) {
-        logger.info("Processing invitations for contest {} ({} users)",
-                event.getContestId(), event.getInvitations().size());
+        dispatcher.dispatch(event.getContestId(), () -> {
+            logger.info("Processing invitations for contest {} ({} users)",
+                    event.getContestId(), event.getInvitations().size());
 
-        event.getInvitations().forEach((userId, token) -> {
+            event.getInvitations().forEach((userId, token) -> {
 
-            final var payload = new InvitationSocketMessage(
-                    event.getContestId(),
-                    event.getContestTitle(),
-                    token,
-                    event.getInviterName()
-            );
-
-            try {
-                messagingTemplate.convertAndSendToUser(
-                        userId,
-                        "/queue/invitations",
-                        payload
+                final var payload = new InvitationSocketMessage(
+                        event.getContestId(),
+                        event.getContestTitle(),
+                        token,
+                        event.getInviterName()
                 );
-            } catch (Exception e) {
-                logger.error("Failed to send invitation to user {}", userId, e);
-            }
+
+                try {
+                    messagingTemplate.convertAndSendToUser(
+                            userId,
+                            "/queue/invitations",
+                            payload
+                    );
+                } catch (Exception e) {
+                    logger.error("Failed to send invitation to user {}", userId, e);
+                }
+            });
         });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleContestInvitationsGenerated(final ContestInvitationsGeneratedEvent event) {
-        logger.info("Processing generated invitations for contest {}", event.getContestId());
+        dispatcher.dispatch(event.getContestId(), () -> {
+            logger.info("Processing generated invitations for contest {}", event.getContestId());
 
-        event.getInvitations().forEach((userId, token) -> {
+            event.getInvitations().forEach((userId, token) -> {
 
-            final var payload = new ContestInvitationSocketMessage(
-                    event.getContestId(),
-                    event.getContestName(),
-                    token
-            );
+                final var payload = new ContestInvitationSocketMessage(
+                        event.getContestId(),
+                        event.getContestName(),
+                        token
+                );
 
-            messagingTemplate.convertAndSendToUser(
-                    userId.toString(),
-                    "/queue/invitations",
-                    payload
-            );
+                messagingTemplate.convertAndSendToUser(
+                        userId.toString(),
+                        "/queue/invitations",
+                        payload
+                );
+            });
         });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleChatMessage(final ContestChatMessageEvent event) {
         final var topic = "/topic/contest/" + event.getContestId();
 
@@ -146,6 +164,6 @@ public class ContestEventWebSocketNotifier {
                 event.getTimestamp()
         );
 
-        messagingTemplate.convertAndSend(topic, payload);
+        dispatcher.dispatch(event.getContestId(), () -> messagingTemplate.convertAndSend(topic, payload));
     }
 }
\ No newline at end of file
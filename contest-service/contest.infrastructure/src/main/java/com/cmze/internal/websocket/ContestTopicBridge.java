@@ -0,0 +1,123 @@
+package com.cmze.internal.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "app.contest.ws.bridge.enabled", havingValue = "true")
+public class ContestTopicBridge implements ChannelInterceptor, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContestTopicBridge.class);
+
+    public static final String ORIGIN_HEADER = "x-bridge-origin";
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Counter relayed;
+    private final Counter delivered;
+    private final Counter failed;
+
+    public ContestTopicBridge(final StringRedisTemplate redisTemplate,
+                           @Lazy final SimpMessagingTemplate messagingTemplate,
+                           final ObjectMapper objectMapper,
+                           final MeterRegistry meterRegistry,
+                           @Value("${app.contest.ws.bridge.channel:contest:ws:topics}") final String channel) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+
+        this.relayed = Counter.builder("contest.ws.bridge.relayed").register(meterRegistry);
+        this.delivered = Counter.builder("contest.ws.bridge.delivered").register(meterRegistry);
+        this.failed = Counter.builder("contest.ws.bridge.failed").register(meterRegistry);
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public Message<?> preSend(final Message<?> message, final MessageChannel outputChannel) {
+        final var headers = message.getHeaders();
+        final var destination = SimpMessageHeaderAccessor.getDestination(headers);
+
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || destination == null
+                || !destination.startsWith(TOPIC_PREFIX)
+                || headers.containsKey(ORIGIN_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            final var contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+            final var frame = new BridgedFrame(
+                    instanceId,
+                    destination,
+                    contentType != null ? contentType.toString() : null,
+                    payload
+            );
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(frame));
+            relayed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            logger.warn("Could not relay {} to peer instances: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    @Override
+    public void onMessage(final org.springframework.data.redis.connection.Message message, final byte[] pattern) {
+        try {
+            final var frame = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), BridgedFrame.class);
+
+            if (instanceId.equals(frame.origin())) {
+                return;
+            }
+
+            final var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(frame.contentType() != null
+                    ? MimeType.valueOf(frame.contentType())
+                    : MimeTypeUtils.APPLICATION_JSON);
+            accessor.setHeader(ORIGIN_HEADER, frame.origin());
+            accessor.setLeaveMutable(true);
+
+            messagingTemplate.send(frame.destination(), MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+            delivered.increment();
+        } catch (Exception e) {
+            failed.increment();
+            logger.warn("Could not deliver bridged frame from {}: {}", channel, e.getMessage());
+        }
+    }
+
+    record BridgedFrame(String origin, String destination, String contentType, byte[] payload) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.cmze.internal.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class StompPayloadEncoder implements ChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StompPayloadEncoder.class);
+
+    public static final String ENCODING_HEADER = "payload-encoding";
+    public static final String CBOR = "cbor";
+    public static final MimeType APPLICATION_CBOR = new MimeType("application", "cbor");
+    public static final String CBOR_PAYLOAD_HEADER = "simpCborPayload";
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = CBORMapper.builder().findAndAddModules().build();
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+
+    private final DistributionSummary jsonBytes;
+    private final DistributionSummary cborBytes;
+
+    public StompPayloadEncoder(final ObjectMapper objectMapper, final MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.jsonBytes = DistributionSummary.builder("contest.ws.encoding.bytes")
+                .baseUnit("bytes")
+                .tag("encoding", "json")
+                .register(meterRegistry);
+        this.cborBytes = DistributionSummary.builder("contest.ws.encoding.bytes")
+                .baseUnit("bytes")
+                .tag("encoding", CBOR)
+                .register(meterRegistry);
+    }
+
+    public void negotiate(final StompHeaderAccessor accessor) {
+        if (CBOR.equalsIgnoreCase(accessor.getFirstNativeHeader(ENCODING_HEADER))) {
+            cborSessions.add(accessor.getSessionId());
+            logger.debug("STOMP session {} negotiated CBOR payloads", accessor.getSessionId());
+        }
+    }
+
+    public MessageConverter messageConverter() {
+        final var converter = new MappingJackson2MessageConverter(APPLICATION_CBOR);
+        converter.setObjectMapper(cborMapper);
+        converter.setStrictContentTypeMatch(true);
+        return converter;
+    }
+
+    public ChannelInterceptor brokerChannelInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(final Message<?> message, final MessageChannel channel) {
+                return encodeOnce(message);
+            }
+        };
+    }
+
+    @EventListener
+    public void handleDisconnect(final SessionDisconnectEvent event) {
+        cborSessions.remove(event.getSessionId());
+    }
+
+    @Override
+    public Message<?> preSend(final Message<?> message, final MessageChannel channel) {
+        final var headers = message.getHeaders();
+
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || !(message.getPayload() instanceof byte[] payload)
+                || !isJson(headers)) {
+            return message;
+        }
+
+        final var sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null || !cborSessions.contains(sessionId)) {
+            jsonBytes.record(payload.length);
+            return message;
+        }
+
+        try {
+            final byte[] encoded = headers.get(CBOR_PAYLOAD_HEADER) instanceof byte[] cached
+                    ? cached
+                    : transcode(payload);
+            cborBytes.record(encoded.length);
+
+            final var accessor = SimpMessageHeaderAccessor.wrap(message);
+            accessor.removeHeader(CBOR_PAYLOAD_HEADER);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+            accessor.setNativeHeader(ENCODING_HEADER, CBOR);
+            return MessageBuilder.createMessage(encoded, accessor.getMessageHeaders());
+        } catch (IOException e) {
+            logger.warn("Could not encode frame as CBOR for session {}, sending JSON: {}", sessionId, e.getMessage());
+            return message;
+        }
+    }
+
+    private Message<?> encodeOnce(final Message<?> message) {
+        final var headers = message.getHeaders();
+
+        if (cborSessions.isEmpty()
+                || SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(CBOR_PAYLOAD_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)
+                || !isJson(headers)) {
+            return message;
+        }
+
+        try {
+            final var accessor = SimpMessageHeaderAccessor.wrap(message);
+            accessor.setHeader(CBOR_PAYLOAD_HEADER, transcode(payload));
+            return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+        } catch (IOException e) {
+            logger.warn("Could not pre-encode frame for {} as CBOR: {}",
+                    SimpMessageHeaderAccessor.getDestination(headers), e.getMessage());
+            return message;
+        }
+    }
+
+    byte[] transcode(final byte[] json) throws IOException {
+        return cborMapper.writeValueAsBytes(objectMapper.readTree(json));
+    }
+
+    private static boolean isJson(final MessageHeaders headers) {
+        final var contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        final var mimeType = contentType instanceof MimeType type ? type : MimeType.valueOf(contentType.toString());
+        return MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(mimeType);
+    }
+}
@@ -0,0 +1,72 @@
+package com.cmze.external.routing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RoomAffinityLoadBalancerTest {
+
+    private final List<ServiceInstance> instances = List.of(instance("quiz-1"), instance("quiz-2"), instance("quiz-3"));
+    private final RoomAffinityLoadBalancer loadBalancer = new RoomAffinityLoadBalancer(supplier(), "quiz-service");
+    private final ConsistentHashRing ring = ConsistentHashRing.build(instances);
+
+    @Test
+    void feignRoomCallsReachTheRoomOwner() {
+        for (int i = 0; i < 50; i++) {
+            final var roomId = UUID.randomUUID().toString();
+            final var owner = ring.locate(roomId);
+
+            assertThat(choose(HttpMethod.POST, "http://quiz-service/quiz/room/" + roomId + "/close")).isEqualTo(owner);
+            assertThat(choose(HttpMethod.GET, "http://quiz-service/quiz/room/" + roomId)).isEqualTo(owner);
+        }
+    }
+
+    @Test
+    void callsWithoutRoomAreSpread() {
+        final var chosen = new HashMap<String, Integer>();
+        for (int i = 0; i < 30; i++) {
+            chosen.merge(choose(HttpMethod.POST, "http://quiz-service/quiz/room").getInstanceId(), 1, Integer::sum);
+        }
+
+        assertThat(chosen).hasSize(instances.size());
+    }
+
+    private ServiceInstance choose(final HttpMethod method, final String url) {
+        final var data = new RequestData(method, URI.create(url), new HttpHeaders(), new LinkedMultiValueMap<>(), Map.of());
+        return loadBalancer.choose(new DefaultRequest<>(new RequestDataContext(data))).block().getServer();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<ServiceInstanceListSupplier> supplier() {
+        final ObjectProvider<ServiceInstanceListSupplier> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any()))
+                .thenReturn(ServiceInstanceListSuppliers.from("quiz-service", instances.toArray(ServiceInstance[]::new)));
+        return provider;
+    }
+
+    private static ServiceInstance instance(final String id) {
+        final var instance = new DefaultServiceInstance(id, "quiz-service", id, 8080, false);
+        instance.getMetadata().put(ConsistentHashRing.AFFINITY_METADATA, "true");
+        return instance;
+    }
+}
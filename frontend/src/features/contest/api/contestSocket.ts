@@ -15,10 +15,7 @@ class ContestSocketClient extends BaseSocketClient<ContestSocketPayload> {
   }
 
   public connectAndSubscribe(onConnect?: () => void): void {
-      this.client.onConnect = () => {
-          console.log(`[${this.serviceName}] Connected!`);
-          if (onConnect) onConnect();
-      };
+      this.connectListener = onConnect;
       this.activate();
   }
 
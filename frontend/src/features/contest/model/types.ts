@@ -227,6 +227,8 @@ export interface GetContestRoomDetailsResponse {
     
     leaderboard: ContestLeaderboardEntryDto[];
     currentStageSettings: StageSettingsResponse | null;
+
+    connectedParticipants: number;
 }
 
 export interface ContestLeaderboardEntryDto {
@@ -9,10 +9,12 @@ import type {
     MyQuizRoomDto,
     GetActiveQuizRoomResponse,
     GetQuizRoomDetailsResponse,
+    GetQuizLeaderboardResponse,
     SubmitAnswerResponse
 } from '../model/types';
 
 import type { QuizParams } from '../model/specification';
+import { quizSocket } from './quizSocket';
 
 const BASE_URL = '/quiz'; 
 
@@ -54,6 +56,10 @@ export const quizService = {
         const response = await apiClient.get<GetQuizRoomDetailsResponse>(`${BASE_URL}/room/${roomId}`);
         return response.data;
     },
+    getLeaderboard: async (roomId: string) => {
+        const response = await apiClient.get<GetQuizLeaderboardResponse>(`${BASE_URL}/room/${roomId}/leaderboard`);
+        return response.data;
+    },
     getActiveRooms: async (params: QuizParams) => {
         const response = await apiClient.get<Page<GetActiveQuizRoomResponse>>(`${BASE_URL}/room/active`, { params });
         return response.data;
@@ -75,6 +81,9 @@ export const quizService = {
         await apiClient.post(`${BASE_URL}/room/${roomId}/close`);
     },
     submitAnswer: async (roomId: string, questionId: number, selectedOptionId: number) => {
+        if (quizSocket.isConnected()) {
+            return quizSocket.submitAnswer(roomId, questionId, selectedOptionId);
+        }
         const response = await apiClient.post<SubmitAnswerResponse>(`${BASE_URL}/room/${roomId}/submit`, {
             questionId,
             selectedOptionId
@@ -1,22 +1,35 @@
 import { BaseSocketClient } from '@/shared/api/BaseSocketClient';
-import type { WSMessage } from '../model/types'; 
+import type { SubmitAnswerResponse, WSMessage } from '../model/types'; 
 
 const QUIZ_WS_URL = 'ws://localhost:8000/quiz/ws'; 
+const ANSWER_QUEUE = '/user/queue/quiz-answers';
+const ANSWER_TIMEOUT_MS = 5000;
 
 type QuizSocketPayload = WSMessage; 
 
+interface PendingAnswer {
+  resolve: (result: SubmitAnswerResponse) => void;
+  reject: (error: Error) => void;
+  timer: ReturnType<typeof setTimeout>;
+}
+
 class QuizSocketClient extends BaseSocketClient<QuizSocketPayload> {
+  private readonly pendingAnswers = new Map<string, PendingAnswer>();
+  private answerSubscriptionId?: string;
+  private nextCorrelationId = 0;
+
   constructor() {
     super(QUIZ_WS_URL, 'Quiz'); 
   }
+  public activate(): void {
+      this.ensureAnswerSubscription();
+      super.activate();
+  }
   public isActive(): boolean {
       return this.client.active; 
   }
   public connectAndSubscribe(onConnect?: () => void): void {
-      this.client.onConnect = () => {
-          console.log(`[${this.serviceName}] Connected!`);
-          if (onConnect) onConnect();
-      };
+      this.connectListener = onConnect;
       this.activate();
   }
   public subscribeToRoomUpdates(roomId: string, callback: (data: QuizSocketPayload) => void): string {
@@ -25,6 +38,44 @@ class QuizSocketClient extends BaseSocketClient<QuizSocketPayload> {
   public unsubscribe(subscriptionId: string): void {
       super.unsubscribe(subscriptionId);
   }
+
+  public submitAnswer(roomId: string, questionId: number, selectedOptionId: number): Promise<SubmitAnswerResponse> {
+    this.ensureAnswerSubscription();
+    const correlationId = `${Date.now()}-${++this.nextCorrelationId}`;
+
+    return new Promise<SubmitAnswerResponse>((resolve, reject) => {
+        const timer = setTimeout(() => {
+            this.pendingAnswers.delete(correlationId);
+            reject(new Error('No answer result received in time'));
+        }, ANSWER_TIMEOUT_MS);
+
+        this.pendingAnswers.set(correlationId, { resolve, reject, timer });
+        this.publish(`/app/quiz/${roomId}/answer`, { correlationId, questionId, selectedOptionId });
+    });
+  }
+
+  // subscribed with the connection so the reply queue exists before the first answer is sent
+  private ensureAnswerSubscription(): void {
+    if (!this.answerSubscriptionId) {
+        this.answerSubscriptionId = this.subscribeToTopic(ANSWER_QUEUE, message => this.handleAnswerResult(message));
+    }
+  }
+
+  private handleAnswerResult(message: QuizSocketPayload): void {
+    if (message.event !== 'ANSWER_RESULT') return;
+
+    const pending = this.pendingAnswers.get(message.correlationId);
+    if (!pending) return;
+
+    this.pendingAnswers.delete(message.correlationId);
+    clearTimeout(pending.timer);
+
+    if (message.success) {
+        pending.resolve(message.result as SubmitAnswerResponse);
+    } else {
+        pending.reject(new Error(message.error?.detail ?? 'Answer rejected'));
+    }
+  }
 }
 
-export const quizSocket = new QuizSocketClient();
\ No newline at end of file
+export const quizSocket = new QuizSocketClient();
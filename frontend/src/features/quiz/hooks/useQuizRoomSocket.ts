@@ -4,9 +4,11 @@ import { quizService } from '../api/quizService';
 import { 
     type QuizSocketMessage, 
     type QuizUserJoinedMessage,
+    type QuizUsersJoinedMessage,
     type QuizNewQuestionMessage,
     type QuizQuestionFinishedMessage,
     type QuizLeaderboardMessage,
+    type QuizLeaderboardDeltaMessage,
     type QuizRoomClosedMessage,
     type FinalRoomResultDto,
     type LeaderboardEntryDto
@@ -37,6 +39,19 @@ interface QuizRoomState {
     isLoading: boolean;
 }
 
+const toLeaderboardEntry = (entry: any): LeaderboardEntryDto => ({
+    userId: entry.userId,
+    nickname: entry.username || entry.nickname || "Unknown",
+    score: entry.score,
+    rank: entry.rank
+});
+
+const applyLeaderboardDelta = (board: LeaderboardEntryDto[], changedEntries: LeaderboardEntryDto[]) => {
+    const byUser = new Map(board.map(entry => [entry.userId, entry]));
+    changedEntries.forEach(entry => byUser.set(entry.userId, toLeaderboardEntry(entry)));
+    return Array.from(byUser.values()).sort((a, b) => a.rank - b.rank);
+};
+
 export const useQuizRoomSocket = (roomId: string) => {
     const [state, setState] = useState<QuizRoomState>({
         status: QuizRoomStatus.LOBBY,
@@ -50,6 +65,49 @@ export const useQuizRoomSocket = (roomId: string) => {
     });
 
     const isMounted = useRef(false);
+    const leaderboardEpoch = useRef<string | null>(null);
+    const leaderboardSequence = useRef(0);
+    const leaderboardResyncing = useRef(false);
+    const pendingDeltas = useRef<QuizLeaderboardDeltaMessage[]>([]);
+
+    const resyncLeaderboard = useCallback(async () => {
+        if (leaderboardResyncing.current) return;
+        leaderboardResyncing.current = true;
+
+        try {
+            const snapshot = await quizService.getLeaderboard(roomId);
+            if (!isMounted.current) return;
+
+            let board = snapshot.leaderboard.map(toLeaderboardEntry);
+            let sequence = snapshot.sequence;
+            // a snapshot served without a live runtime has no epoch; follow the newest deltas from here on
+            const epoch = snapshot.epoch ?? pendingDeltas.current[pendingDeltas.current.length - 1]?.epoch ?? null;
+
+            if (snapshot.epoch === null && epoch !== null) {
+                sequence = Math.max(0, ...pendingDeltas.current.filter(d => d.epoch === epoch).map(d => d.sequence));
+            }
+
+            pendingDeltas.current
+                .filter(delta => delta.epoch === epoch)
+                .sort((a, b) => a.sequence - b.sequence)
+                .forEach(delta => {
+                    if (delta.sequence === sequence + 1) {
+                        board = applyLeaderboardDelta(board, delta.changedEntries);
+                        sequence = delta.sequence;
+                    }
+                });
+
+            leaderboardEpoch.current = epoch;
+            leaderboardSequence.current = sequence;
+            setState(prev => ({ ...prev, leaderboard: board }));
+        } catch (e) {
+            leaderboardEpoch.current = null;
+            leaderboardSequence.current = 0;
+        } finally {
+            pendingDeltas.current = [];
+            leaderboardResyncing.current = false;
+        }
+    }, [roomId]);
 
     useEffect(() => {
         isMounted.current = true;
@@ -61,12 +119,9 @@ export const useQuizRoomSocket = (roomId: string) => {
                 
                 if (isMounted.current) {
                     
-                    const mappedLeaderboard = details.currentResults?.leaderboard?.map((entry: any) => ({
-                        userId: entry.userId,
-                        nickname: entry.username || entry.nickname || "Unknown",
-                        score: entry.score,
-                        rank: entry.rank
-                    })) || [];
+                    const mappedLeaderboard = details.currentResults?.leaderboard?.map(toLeaderboardEntry) || [];
+                    leaderboardEpoch.current = null;
+                    leaderboardSequence.current = 0;
 
                     let initialQuestion = null;
                     if (details.currentQuestion) {
@@ -100,8 +155,12 @@ export const useQuizRoomSocket = (roomId: string) => {
             }
         };
         fetchState();
+        const stopResync = quizSocket.onResync(fetchState);
         
-        return () => { isMounted.current = false; };
+        return () => {
+            isMounted.current = false;
+            stopResync();
+        };
     }, [roomId]);
 
 
@@ -135,6 +194,22 @@ export const useQuizRoomSocket = (roomId: string) => {
                 });
                 break;
 
+            case 'USERS_JOINED':
+                setState(prev => {
+                    const pMsg = payload as QuizUsersJoinedMessage;
+                    const known = new Set(prev.leaderboard.map(u => u.userId));
+                    const added = pMsg.users
+                        .filter(u => !known.has(u.userId))
+                        .map(u => ({ userId: u.userId, nickname: u.username, score: 0, rank: 0 }));
+
+                    return {
+                        ...prev,
+                        participantsCount: pMsg.newParticipantCount,
+                        leaderboard: added.length > 0 ? [...prev.leaderboard, ...added] : prev.leaderboard
+                    };
+                });
+                break;
+
             case 'QUIZ_STARTED':
                 setState(prev => ({ ...prev, status: QuizRoomStatus.QUESTION_ACTIVE }));
                 break;
@@ -172,7 +247,39 @@ export const useQuizRoomSocket = (roomId: string) => {
                 const lMsg = payload as QuizLeaderboardMessage;
                 setState(prev => ({
                     ...prev,
-                    leaderboard: lMsg.topPlayers
+                    leaderboard: lMsg.topPlayers.map(toLeaderboardEntry)
+                }));
+                break;
+
+            case 'LEADERBOARD_DELTA':
+                const dMsg = payload as QuizLeaderboardDeltaMessage;
+
+                if (leaderboardResyncing.current) {
+                    pendingDeltas.current.push(dMsg);
+                    break;
+                }
+                // the first delta of a runtime carries the whole board, so it can be adopted without a snapshot
+                if (leaderboardEpoch.current === null && leaderboardSequence.current === 0 && dMsg.sequence === 1) {
+                    leaderboardEpoch.current = dMsg.epoch;
+                }
+                if (dMsg.epoch !== leaderboardEpoch.current) {
+                    pendingDeltas.current.push(dMsg);
+                    resyncLeaderboard();
+                    break;
+                }
+                if (dMsg.sequence <= leaderboardSequence.current) {
+                    break;
+                }
+                if (dMsg.sequence !== leaderboardSequence.current + 1) {
+                    pendingDeltas.current.push(dMsg);
+                    resyncLeaderboard();
+                    break;
+                }
+
+                leaderboardSequence.current = dMsg.sequence;
+                setState(prev => ({
+                    ...prev,
+                    leaderboard: applyLeaderboardDelta(prev.leaderboard, dMsg.changedEntries)
                 }));
                 break;
 
@@ -185,10 +292,11 @@ export const useQuizRoomSocket = (roomId: string) => {
                 }));
                 break;
         }
-    }, []);
+    }, [resyncLeaderboard]);
 
     useEffect(() => {
         if (!roomId) return;
+        quizSocket.bindRoute(roomId);
 
         let subscriptionId: string | null = null;
         let timeoutId: any;
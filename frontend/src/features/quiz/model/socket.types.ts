@@ -20,6 +20,16 @@ export interface QuizUserJoinedMessage {
     newParticipantCount: number;
 }
 
+export interface QuizUsersJoinedMessage {
+    event: 'USERS_JOINED';
+    users: {
+        participantId: number;
+        userId: string;
+        username: string;
+    }[];
+    newParticipantCount: number;
+}
+
 export interface QuizStartedMessage {
     event: 'QUIZ_STARTED';
 }
@@ -44,6 +54,15 @@ export interface QuizLeaderboardMessage {
     topPlayers: LeaderboardEntryDto[];
 }
 
+export interface QuizLeaderboardDeltaMessage {
+    event: 'LEADERBOARD_DELTA';
+    epoch: string;
+    sequence: number;
+    totalPlayers: number;
+    topPlayers: LeaderboardEntryDto[];
+    changedEntries: LeaderboardEntryDto[];
+}
+
 export interface QuizRoomClosedMessage {
     event: 'ROOM_CLOSED';
     finalResults: FinalRoomResultDto;
@@ -51,10 +70,12 @@ export interface QuizRoomClosedMessage {
 
 export type QuizSocketMessage = 
     | QuizUserJoinedMessage
+    | QuizUsersJoinedMessage
     | QuizStartedMessage
     | QuizNewQuestionMessage
     | QuizQuestionFinishedMessage
     | QuizLeaderboardMessage
+    | QuizLeaderboardDeltaMessage
     | QuizRoomClosedMessage;
 
 export interface WSMessage {
@@ -1,4 +1,4 @@
-import type { FinalRoomResultDto } from './socket.types';
+import type { FinalRoomResultDto, LeaderboardEntryDto } from './socket.types';
 
 export const QuestionType = {
     SINGLE_CHOICE: 'SINGLE_CHOICE',
@@ -95,10 +95,18 @@ export interface GetQuizRoomDetailsResponse {
     status: QuizRoomStatus;
     isPrivate: boolean;
     currentParticipants: number;
+    connectedParticipants: number;
     currentResults: FinalRoomResultDto;
     currentQuestion?: GetCurrentQuestionResponse;
 }
 
+export interface GetQuizLeaderboardResponse {
+    epoch: string | null;
+    sequence: number;
+    totalPlayers: number;
+    leaderboard: LeaderboardEntryDto[];
+}
+
 export interface MyQuizRoomDto {
     roomId: string;
     quizTitle: string;
@@ -13,10 +13,7 @@ class SurveySocketClient extends BaseSocketClient<SurveySocketPayload> {
       return this.client.active;
   }
   public connectAndSubscribe(onConnect?: () => void): void {
-      this.client.onConnect = () => {
-          console.log(`[${this.serviceName}] Connected!`);
-          if (onConnect) onConnect();
-      };
+      this.connectListener = onConnect;
       this.activate();
   }
   public subscribeToRoomUpdates(roomId: string, callback: (data: SurveySocketPayload) => void): string {
@@ -15,7 +15,7 @@ import type { QuestionType as RestQuestionType } from '@/features/survey/model/t
 const { Text } = Typography;
 const COLORS = ['#1890ff', '#52c41a', '#fa8c16', '#eb2f96', '#722ed1', '#13c2c2', '#fadb14'];
 
-const OpenTextVisualizer: React.FC<{ answers: string[] }> = ({ answers }) => {
+const OpenTextVisualizer: React.FC<{ answers: string[]; total?: number }> = ({ answers, total }) => {
     const [currentIndex, setCurrentIndex] = useState(0);
 
     if (!answers || answers.length === 0) {
@@ -43,7 +43,10 @@ const OpenTextVisualizer: React.FC<{ answers: string[] }> = ({ answers }) => {
 
             <div style={{ display: 'flex', justifyContent: 'center', alignItems: 'center', gap: 16 }}>
                 <Button icon={<LeftOutlined />} onClick={handlePrev} disabled={answers.length <= 1} />
-                <Text type="secondary">{currentIndex + 1} of {answers.length}</Text>
+                <Text type="secondary">
+                    {currentIndex + 1} of {answers.length}
+                    {total !== undefined && total > answers.length && ` (latest of ${total})`}
+                </Text>
                 <Button icon={<RightOutlined />} onClick={handleNext} disabled={answers.length <= 1} />
             </div>
         </div>
@@ -54,7 +57,7 @@ const QuestionVisualization: React.FC<{ result: QuestionResultDto }> = ({ result
     const questionType = result.type as RestQuestionType; 
 
     if (questionType === 'OPEN_TEXT') {
-        return <OpenTextVisualizer answers={result.openAnswers || []} />;
+        return <OpenTextVisualizer answers={result.openAnswers || []} total={result.openAnswerCount} />;
     }
 
     const counts = result.answerCounts || {};
@@ -53,8 +53,12 @@ export const useSurveyRoomSocket = (roomId: string) => {
             }
         };
         fetchInitialState();
+        const stopResync = surveySocket.onResync(fetchInitialState);
         
-        return () => { isMounted.current = false; };
+        return () => {
+            isMounted.current = false;
+            stopResync();
+        };
     }, [roomId]);
 
 
@@ -63,6 +67,7 @@ export const useSurveyRoomSocket = (roomId: string) => {
         
         switch (payload.event) {
             case 'USER_JOINED':
+            case 'USERS_JOINED':
                 setState(prevState => ({
                     ...prevState,
                     participantCount: payload.newParticipantCount,
@@ -91,6 +96,7 @@ export const useSurveyRoomSocket = (roomId: string) => {
 
     useEffect(() => {
         if (!roomId) return;
+        surveySocket.bindRoute(roomId);
         if (!surveySocket.isActive()) surveySocket.activate();
 
         let subscriptionId: string | null = null;
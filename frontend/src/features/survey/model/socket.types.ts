@@ -5,6 +5,7 @@ export interface QuestionResultDto {
     title: string;
     type: QuestionType;
     answerCounts: Record<string, number>;
+    openAnswerCount: number;
     openAnswers: string[];
 }
 
@@ -21,6 +22,15 @@ export interface UserJoinedSocketMessage {
     newParticipantCount: number;
 }
 
+export interface UsersJoinedSocketMessage {
+    event: 'USERS_JOINED';
+    users: {
+        participantId: number;
+        userId: string;
+    }[];
+    newParticipantCount: number;
+}
+
 export interface LiveResultUpdateSocketMessage {
     event: 'LIVE_RESULTS_UPDATE';
     currentResults: FinalRoomResultDto;
@@ -33,5 +43,6 @@ export interface RoomClosedSocketMessage {
 
 export type SurveySocketMessage = 
     | UserJoinedSocketMessage 
+    | UsersJoinedSocketMessage
     | LiveResultUpdateSocketMessage 
     | RoomClosedSocketMessage;
\ No newline at end of file
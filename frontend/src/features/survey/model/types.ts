@@ -72,6 +72,7 @@ export interface SurveyRoomDetailsResponse {
     open: boolean;
     isPrivate: boolean;
     currentParticipants: number;
+    connectedParticipants: number;
     currentResults: FinalRoomResultDto;
 }
 
@@ -1,12 +1,28 @@
 import { Client } from '@stomp/stompjs';
 import type { IMessage, StompSubscription } from '@stomp/stompjs';
 
+const SESSION_NOT_RELIABLE = 4500;
+
+interface TopicSubscription<T> {
+  topic: string;
+  callback: (payload: T) => void;
+  handle?: StompSubscription;
+}
+
 export class BaseSocketClient<T> { 
   protected client: Client;
   protected serviceName: string;
+  protected connectListener?: () => void;
+  private readonly brokerUrl: string;
+  private readonly subscriptions = new Map<string, TopicSubscription<T>>();
+  private readonly resyncListeners = new Set<() => void>();
+  private nextSubscriptionId = 0;
+  private hasConnected = false;
+  private resyncPending = false;
 
   constructor(brokerUrl: string, serviceName: string) {
     this.serviceName = serviceName;
+    this.brokerUrl = brokerUrl;
     
     this.client = new Client({
       brokerURL: brokerUrl,
@@ -32,8 +48,17 @@ export class BaseSocketClient<T> {
       },
     });
 
-    this.client.onConnect = (frame) => {
+    this.client.onConnect = () => {
       console.log(`[${this.serviceName}] Connected!`);
+      this.resubscribeAll();
+      if (this.connectListener) this.connectListener();
+
+      if (this.resyncPending) {
+        this.resyncPending = false;
+        console.log(`[${this.serviceName}] Resyncing state missed while disconnected`);
+        this.resyncListeners.forEach(listener => listener());
+      }
+      this.hasConnected = true;
     };
 
     this.client.onStompError = (frame) => {
@@ -41,8 +66,13 @@ export class BaseSocketClient<T> {
       console.error(`Details: ${frame.body}`);
     };
 
-    this.client.onWebSocketClose = () => {
-        console.log(`[${this.serviceName}] Connection Closed`);
+    this.client.onWebSocketClose = (event: CloseEvent) => {
+        if (event.code === SESSION_NOT_RELIABLE) {
+            console.warn(`[${this.serviceName}] Connection dropped by the server as too slow`);
+        } else {
+            console.log(`[${this.serviceName}] Connection Closed`);
+        }
+        if (this.hasConnected) this.resyncPending = true;
     }
   }
 
@@ -63,46 +93,80 @@ export class BaseSocketClient<T> {
   public isActive(): boolean {
     return this.client.active;
   }
+
+  public bindRoute(roomId: string | null): void {
+    const url = roomId ? `${this.brokerUrl}?roomId=${encodeURIComponent(roomId)}` : this.brokerUrl;
+    if (this.client.brokerURL === url) {
+        return;
+    }
+
+    this.client.brokerURL = url;
+
+    if (this.client.active) {
+        console.log(`[${this.serviceName}] Reconnecting to the instance owning room ${roomId}...`);
+        this.client.deactivate().then(() => this.client.activate());
+    }
+  }
   
+  public onResync(listener: () => void): () => void {
+    this.resyncListeners.add(listener);
+    return () => {
+        this.resyncListeners.delete(listener);
+    };
+  }
+
   public isConnected(): boolean {
       return this.client.connected;
   }
   
+  public publish(destination: string, body: unknown): void {
+    this.client.publish({ destination, body: JSON.stringify(body) });
+  }
+
   public subscribeToTopic(topic: string, callback: (payload: T) => void): string {
-    const trySubscribe = () => {
-        if (this.client.connected) {
-            console.log(`[${this.serviceName}] Subscribing to: ${topic}`);
-            
-            const subscription: StompSubscription = this.client.subscribe(topic, (message: IMessage) => {
-                if (message.body) {
-                    try {
-                        callback(JSON.parse(message.body) as T); 
-                    } catch (e) {
-                        console.error(`[${this.serviceName}] JSON Parse Error`, e);
-                    }
-                }
-            });
-            return subscription.id; 
+    const id = `${this.serviceName}-sub-${++this.nextSubscriptionId}`;
+    const subscription: TopicSubscription<T> = { topic, callback };
+    this.subscriptions.set(id, subscription);
 
-        } else {
-            setTimeout(trySubscribe, 500);
-            return ''; 
-        }
+    if (this.client.connected) {
+        subscription.handle = this.open(subscription);
     }
-    
-    return trySubscribe() || '';
+    return id;
   }
   
   public unsubscribe(subscriptionId: string): void {
-      if (this.client && subscriptionId) {
+      const subscription = this.subscriptions.get(subscriptionId);
+      this.subscriptions.delete(subscriptionId);
+
+      if (subscription?.handle) {
           try {
               if (this.client.connected) {
-                 this.client.unsubscribe(subscriptionId);
-                 console.log(`[${this.serviceName}] Unsubscribed: ${subscriptionId}`);
+                 subscription.handle.unsubscribe();
+                 console.log(`[${this.serviceName}] Unsubscribed: ${subscription.topic}`);
               }
           } catch (e) {
               console.warn(`[${this.serviceName}] Failed to unsubscribe safely:`, e);
           }
       }
   }
-}
\ No newline at end of file
+
+  private resubscribeAll(): void {
+    this.subscriptions.forEach(subscription => {
+        subscription.handle = this.open(subscription);
+    });
+  }
+
+  private open(subscription: TopicSubscription<T>): StompSubscription {
+    console.log(`[${this.serviceName}] Subscribing to: ${subscription.topic}`);
+
+    return this.client.subscribe(subscription.topic, (message: IMessage) => {
+        if (message.body) {
+            try {
+                subscription.callback(JSON.parse(message.body) as T); 
+            } catch (e) {
+                console.error(`[${this.serviceName}] JSON Parse Error`, e);
+            }
+        }
+    });
+  }
+}
@@ -11,7 +11,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -35,6 +38,8 @@ public class RoomController {
     private final GetQuizRoomDetailsUseCase getQuizRoomDetailsUseCase;
     private final GetMyQuizRoomsResultsUseCase getMyQuizRoomsResultsUseCase;
     private final GetAllActiveQuizRoomsUseCase getAllActiveQuizRoomsUseCase;
+    private final GetQuizLeaderboardUseCase getQuizLeaderboardUseCase;
+    private final ExportQuizResultsUseCase exportQuizResultsUseCase;
 
     public RoomController(final CreateQuizRoomUseCase createQuizRoomUseCase,
                           final JoinQuizRoomUseCase joinQuizRoomUseCase,
@@ -47,7 +52,9 @@ public class RoomController {
                           final GenerateTokenForUserUseCase generateTokenForUserUseCase,
                           final GetQuizRoomDetailsUseCase getQuizRoomDetailsUseCase,
                           final GetMyQuizRoomsResultsUseCase getMyQuizRoomsResultsUseCase,
-                          final GetAllActiveQuizRoomsUseCase getAllActiveQuizRoomsUseCase) {
+                          final GetAllActiveQuizRoomsUseCase getAllActiveQuizRoomsUseCase,
+                          final GetQuizLeaderboardUseCase getQuizLeaderboardUseCase,
+                          final ExportQuizResultsUseCase exportQuizResultsUseCase) {
         this.createQuizRoomUseCase = createQuizRoomUseCase;
         this.joinQuizRoomUseCase = joinQuizRoomUseCase;
         this.startQuizUseCase = startQuizUseCase;
@@ -60,6 +67,8 @@ public class RoomController {
         this.getQuizRoomDetailsUseCase = getQuizRoomDetailsUseCase;
         this.getMyQuizRoomsResultsUseCase = getMyQuizRoomsResultsUseCase;
         this.getAllActiveQuizRoomsUseCase = getAllActiveQuizRoomsUseCase;
+        this.getQuizLeaderboardUseCase = getQuizLeaderboardUseCase;
+        this.exportQuizResultsUseCase = exportQuizResultsUseCase;
     }
 
     @PostMapping
@@ -187,6 +196,35 @@ public class RoomController {
         return result.toResponseEntity(HttpStatus.OK);
     }
 
+    @GetMapping("/{roomId}/leaderboard")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getLeaderboard(@PathVariable final UUID roomId) {
+        final var result = getQuizLeaderboardUseCase.execute(roomId);
+        return result.toResponseEntity(HttpStatus.OK);
+    }
+
+    @GetMapping("/{roomId}/export")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> exportResults(
+            @PathVariable final UUID roomId,
+            @RequestParam(defaultValue = "csv") final String format,
+            final Authentication authentication
+    ) {
+        final var userId = (UUID) authentication.getPrincipal();
+        final var result = exportQuizResultsUseCase.execute(roomId, userId, format);
+
+        if (result.isFailure()) {
+            return result.toResponseEntity(HttpStatus.OK);
+        }
+
+        final var export = result.data();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(export.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(export.getFileName()).build().toString())
+                .body(export.getBody());
+    }
+
     @GetMapping("/my")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> getMyRooms(
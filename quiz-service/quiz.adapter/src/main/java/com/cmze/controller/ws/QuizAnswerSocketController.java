@@ -0,0 +1,57 @@
+package com.cmze.controller.ws;
+
+import com.cmze.internal.ws.messages.AnswerResultSocketMessage;
+import com.cmze.request.SubmitQuizAnswerCommand;
+import com.cmze.request.SubmitQuizAnswerRequest;
+import com.cmze.usecase.room.SubmitQuizAnswerUseCase;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.util.UUID;
+
+@Controller
+public class QuizAnswerSocketController {
+
+    private final SubmitQuizAnswerUseCase submitQuizAnswerUseCase;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public QuizAnswerSocketController(final SubmitQuizAnswerUseCase submitQuizAnswerUseCase,
+                                      final SimpMessagingTemplate messagingTemplate) {
+        this.submitQuizAnswerUseCase = submitQuizAnswerUseCase;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @MessageMapping("/quiz/{roomId}/answer")
+    public void submitAnswer(
+            @DestinationVariable final UUID roomId,
+            @Payload final SubmitQuizAnswerCommand command,
+            final Principal principal
+    ) {
+        if (principal == null) {
+            throw new AccessDeniedException("Answer frame without an authenticated session");
+        }
+        final var userId = UUID.fromString(principal.getName());
+
+        final var result = submitQuizAnswerUseCase.execute(
+                roomId,
+                userId,
+                new SubmitQuizAnswerRequest(command.getQuestionId(), command.getSelectedOptionId())
+        );
+
+        messagingTemplate.convertAndSendToUser(
+                principal.getName(),
+                "/queue/quiz-answers",
+                new AnswerResultSocketMessage(
+                        command.getCorrelationId(),
+                        result.success(),
+                        result.data(),
+                        result.error()
+                )
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.cmze.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class SubmitQuizAnswerCommand {
+    private String correlationId;
+    private Long questionId;
+    private Long selectedOptionId;
+}
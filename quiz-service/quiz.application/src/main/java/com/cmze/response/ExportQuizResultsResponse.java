@@ -0,0 +1,15 @@
+package com.cmze.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportQuizResultsResponse {
+    private String fileName;
+    private String contentType;
+    private StreamingResponseBody body;
+}
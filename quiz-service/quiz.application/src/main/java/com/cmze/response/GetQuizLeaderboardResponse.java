@@ -0,0 +1,18 @@
+package com.cmze.response;
+
+import com.cmze.spi.helpers.room.LeaderboardEntryDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetQuizLeaderboardResponse {
+    private String epoch;
+    private long sequence;
+    private long totalPlayers;
+    private List<LeaderboardEntryDto> leaderboard;
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Data
@@ -19,6 +20,8 @@ public class GetQuizRoomDetailsResponse {
     private QuizRoomStatus status;
     private boolean isPrivate;
     private long currentParticipants;
+    private int connectedParticipants;
     private FinalRoomResultsDto currentResults;
     private GetCurrentQuestionResponse currentQuestion;
+    private Map<Long, Long> answerStats;
 }
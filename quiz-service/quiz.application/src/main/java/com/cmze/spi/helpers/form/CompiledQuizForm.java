@@ -0,0 +1,134 @@
+package com.cmze.spi.helpers.form;
+
+import com.cmze.entity.QuizForm;
+
+import java.util.BitSet;
+import java.util.UUID;
+
+public final class CompiledQuizForm {
+
+    private final long formId;
+    private final String title;
+    private final UUID creatorId;
+    private final boolean isPrivate;
+
+    private final long[] questionIds;
+    private final String[] questionTitles;
+    private final int[] points;
+    private final int[] optionOffsets;
+    private final long[] optionIds;
+    private final String[] optionTexts;
+    private final BitSet correctOptions;
+
+    private CompiledQuizForm(final QuizForm form) {
+        final var questions = form.getQuestions();
+        final int questionCount = questions.size();
+
+        int optionCount = 0;
+        for (final var question : questions) {
+            optionCount += question.getOptions().size();
+        }
+
+        this.formId = form.getId();
+        this.title = form.getTitle();
+        this.creatorId = form.getCreatorId();
+        this.isPrivate = form.isPrivate();
+
+        this.questionIds = new long[questionCount];
+        this.questionTitles = new String[questionCount];
+        this.points = new int[questionCount];
+        this.optionOffsets = new int[questionCount + 1];
+        this.optionIds = new long[optionCount];
+        this.optionTexts = new String[optionCount];
+        this.correctOptions = new BitSet(optionCount);
+
+        int slot = 0;
+        for (int q = 0; q < questionCount; q++) {
+            final var question = questions.get(q);
+
+            questionIds[q] = question.getId();
+            questionTitles[q] = question.getTitle();
+            points[q] = question.getPoints();
+            optionOffsets[q] = slot;
+
+            for (final var option : question.getOptions()) {
+                optionIds[slot] = option.getId();
+                optionTexts[slot] = option.getText();
+                if (option.isCorrect()) {
+                    correctOptions.set(slot);
+                }
+                slot++;
+            }
+        }
+        optionOffsets[questionCount] = slot;
+    }
+
+    public static CompiledQuizForm compile(final QuizForm form) {
+        return new CompiledQuizForm(form);
+    }
+
+    public int optionSlot(final int questionIndex, final Long optionId) {
+        if (optionId == null) return -1;
+
+        for (int slot = optionOffsets[questionIndex]; slot < optionOffsets[questionIndex + 1]; slot++) {
+            if (optionIds[slot] == optionId) return slot;
+        }
+        return -1;
+    }
+
+    public int firstOptionSlot(final int questionIndex) {
+        return optionOffsets[questionIndex];
+    }
+
+    public int optionCount(final int questionIndex) {
+        return optionOffsets[questionIndex + 1] - optionOffsets[questionIndex];
+    }
+
+    public boolean isCorrect(final int slot) {
+        return correctOptions.get(slot);
+    }
+
+    public long optionId(final int slot) {
+        return optionIds[slot];
+    }
+
+    public String optionText(final int slot) {
+        return optionTexts[slot];
+    }
+
+    public int getOptionSlotCount() {
+        return optionIds.length;
+    }
+
+    public int getQuestionCount() {
+        return questionIds.length;
+    }
+
+    public long questionId(final int questionIndex) {
+        return questionIds[questionIndex];
+    }
+
+    public String questionTitle(final int questionIndex) {
+        return questionTitles[questionIndex];
+    }
+
+    public int points(final int questionIndex) {
+        return points[questionIndex];
+    }
+
+    public long getFormId() {
+        return formId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public UUID getCreatorId() {
+        return creatorId;
+    }
+
+    public boolean isPrivate() {
+        return isPrivate;
+    }
+}
@@ -0,0 +1,8 @@
+package com.cmze.spi.helpers.form;
+
+import java.util.Optional;
+
+public interface QuizFormCache {
+    Optional<CompiledQuizForm> find(final Long formId);
+    void invalidate(final Long formId);
+}
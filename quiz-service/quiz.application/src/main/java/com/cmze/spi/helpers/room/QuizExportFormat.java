@@ -0,0 +1,31 @@
+package com.cmze.spi.helpers.room;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum QuizExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    QuizExportFormat(final String contentType, final String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static Optional<QuizExportFormat> parse(final String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
@@ -0,0 +1,9 @@
+package com.cmze.spi.helpers.room;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface QuizResultExporter {
+    void export(UUID roomId, UUID hostId, QuizExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,28 @@
+package com.cmze.spi.helpers.runtime;
+
+public record AnswerVerdict(Outcome outcome,
+                            int questionIndex,
+                            Long questionId,
+                            Long selectedOptionId,
+                            int optionSlot,
+                            boolean correct,
+                            int maxPoints,
+                            long elapsedMs) {
+
+    public enum Outcome {
+        ACCEPTED,
+        QUESTION_NOT_ACTIVE,
+        INVALID_STATE,
+        WRONG_QUESTION,
+        TIME_UP,
+        INVALID_OPTION
+    }
+
+    public static AnswerVerdict rejected(final Outcome outcome) {
+        return new AnswerVerdict(outcome, -1, null, null, -1, false, 0, 0L);
+    }
+
+    public boolean isAccepted() {
+        return outcome == Outcome.ACCEPTED;
+    }
+}
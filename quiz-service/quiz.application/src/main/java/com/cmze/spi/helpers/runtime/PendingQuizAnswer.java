@@ -0,0 +1,14 @@
+package com.cmze.spi.helpers.runtime;
+
+import java.util.UUID;
+
+public record PendingQuizAnswer(UUID roomId,
+                                Long entrantId,
+                                Long questionId,
+                                int questionIndex,
+                                Long selectedOptionId,
+                                long timeTakenMs,
+                                boolean correct,
+                                int pointsAwarded,
+                                QuizEntrantState.Score entrantScore) {
+}
@@ -0,0 +1,11 @@
+package com.cmze.spi.helpers.runtime;
+
+import java.util.UUID;
+
+public interface QuizAnswerBuffer {
+    void enqueue(PendingQuizAnswer answer);
+
+    void flush();
+
+    boolean hasPending(UUID roomId);
+}
@@ -0,0 +1,67 @@
+package com.cmze.spi.helpers.runtime;
+
+import com.cmze.entity.QuizEntrant;
+
+import java.util.UUID;
+
+public class QuizEntrantState {
+
+    private final Long entrantId;
+    private final UUID userId;
+    private final String nickname;
+
+    private int slot = -1;
+    private int totalScore;
+    private int comboStreak;
+    private boolean lastAnswerCorrect;
+
+    public QuizEntrantState(final QuizEntrant entrant) {
+        this.entrantId = entrant.getId();
+        this.userId = entrant.getUserId();
+        this.nickname = entrant.getNickname();
+        this.totalScore = entrant.getTotalScore();
+        this.comboStreak = entrant.getComboStreak();
+        this.lastAnswerCorrect = entrant.isLastAnswerCorrect();
+    }
+
+    void assignSlot(final int slot) {
+        this.slot = slot;
+    }
+
+    public synchronized Score recordAnswer(final boolean correct, final int pointsAwarded) {
+        totalScore += pointsAwarded;
+        comboStreak = correct ? comboStreak + 1 : 0;
+        lastAnswerCorrect = correct;
+
+        return new Score(totalScore, comboStreak, lastAnswerCorrect);
+    }
+
+    public synchronized void restore(final Score score) {
+        totalScore = score.totalScore();
+        comboStreak = score.comboStreak();
+        lastAnswerCorrect = score.lastAnswerCorrect();
+    }
+
+    public synchronized Score currentScore() {
+        return new Score(totalScore, comboStreak, lastAnswerCorrect);
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public Long getEntrantId() {
+        return entrantId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public record Score(int totalScore, int comboStreak, boolean lastAnswerCorrect) {
+    }
+}
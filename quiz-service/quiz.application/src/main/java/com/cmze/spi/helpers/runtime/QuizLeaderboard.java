@@ -0,0 +1,229 @@
+package com.cmze.spi.helpers.runtime;
+
+import com.cmze.spi.helpers.room.LeaderboardEntryDto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class QuizLeaderboard {
+
+    // sequences restart whenever a runtime is rebuilt, so clients compare the epoch before trusting one
+    private final String epoch = UUID.randomUUID().toString();
+    private final Map<UUID, Node> byUser = new HashMap<>();
+    private final Map<UUID, LeaderboardEntryDto> published = new HashMap<>();
+    private List<LeaderboardEntryDto> publishedBoard = List.of();
+    private long sequence;
+    private Node root;
+
+    public synchronized void update(final QuizEntrantState entrant, final int score) {
+        final var existing = byUser.get(entrant.getUserId());
+
+        if (existing != null) {
+            if (existing.score == score) {
+                return;
+            }
+            root = remove(root, existing);
+        }
+
+        final var node = new Node(entrant.getUserId(), entrant.getEntrantId(), entrant.getNickname(), score);
+        byUser.put(node.userId, node);
+        root = insert(root, node);
+    }
+
+    public synchronized Optional<LeaderboardEntryDto> findEntry(final UUID userId) {
+        final var node = byUser.get(userId);
+        if (node == null) {
+            return Optional.empty();
+        }
+        return Optional.of(node.toEntry(rankOf(node)));
+    }
+
+    public synchronized List<LeaderboardEntryDto> top(final int limit) {
+        final var result = new ArrayList<LeaderboardEntryDto>(Math.min(limit, size(root)));
+        final var stack = new ArrayDeque<Node>();
+        var current = root;
+
+        while ((current != null || !stack.isEmpty()) && result.size() < limit) {
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            current = stack.pop();
+            result.add(current.toEntry(result.size() + 1));
+            current = current.right;
+        }
+        return result;
+    }
+
+    public synchronized List<LeaderboardEntryDto> snapshot() {
+        return top(size(root));
+    }
+
+    public synchronized int size() {
+        return size(root);
+    }
+
+    public synchronized Delta publishDelta(final int topLimit) {
+        final var board = snapshot();
+        final var changed = new ArrayList<LeaderboardEntryDto>();
+
+        for (final var entry : board) {
+            final var previous = published.put(entry.getUserId(), entry);
+            if (previous == null || previous.getScore() != entry.getScore() || previous.getRank() != entry.getRank()) {
+                changed.add(entry);
+            }
+        }
+
+        publishedBoard = List.copyOf(board);
+        sequence++;
+
+        return new Delta(epoch, sequence, board.size(), board.subList(0, Math.min(topLimit, board.size())), changed);
+    }
+
+    public synchronized Snapshot lastPublished() {
+        if (sequence == 0) {
+            final var board = snapshot();
+            return new Snapshot(epoch, 0, board.size(), board);
+        }
+        return new Snapshot(epoch, sequence, publishedBoard.size(), publishedBoard);
+    }
+
+    private int rankOf(final Node target) {
+        int rank = 1;
+        var current = root;
+
+        while (current != null) {
+            final int cmp = compare(target, current);
+            if (cmp == 0) {
+                return rank + size(current.left);
+            }
+            if (cmp < 0) {
+                current = current.left;
+            } else {
+                rank += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        throw new IllegalStateException("Leaderboard entry is not linked");
+    }
+
+    private static int compare(final Node a, final Node b) {
+        if (a.score != b.score) {
+            return Integer.compare(b.score, a.score);
+        }
+        return Long.compare(a.entrantId, b.entrantId);
+    }
+
+    private static Node insert(final Node tree, final Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.priority > tree.priority) {
+            final var parts = split(tree, node);
+            node.left = parts[0];
+            node.right = parts[1];
+            node.recount();
+            return node;
+        }
+        if (compare(node, tree) < 0) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+        tree.recount();
+        return tree;
+    }
+
+    private static Node remove(final Node tree, final Node target) {
+        if (tree == null) {
+            return null;
+        }
+        if (tree == target) {
+            return merge(tree.left, tree.right);
+        }
+        if (compare(target, tree) < 0) {
+            tree.left = remove(tree.left, target);
+        } else {
+            tree.right = remove(tree.right, target);
+        }
+        tree.recount();
+        return tree;
+    }
+
+    private static Node[] split(final Node tree, final Node key) {
+        if (tree == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(tree, key) < 0) {
+            final var parts = split(tree.right, key);
+            tree.right = parts[0];
+            tree.recount();
+            return new Node[]{tree, parts[1]};
+        }
+        final var parts = split(tree.left, key);
+        tree.left = parts[1];
+        tree.recount();
+        return new Node[]{parts[0], tree};
+    }
+
+    private static Node merge(final Node left, final Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.recount();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.recount();
+        return right;
+    }
+
+    private static int size(final Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    public record Delta(String epoch,
+                        long sequence,
+                        int totalPlayers,
+                        List<LeaderboardEntryDto> topPlayers,
+                        List<LeaderboardEntryDto> changedEntries) {
+    }
+
+    public record Snapshot(String epoch, long sequence, int totalPlayers, List<LeaderboardEntryDto> entries) {
+    }
+
+    private static final class Node {
+        private final UUID userId;
+        private final long entrantId;
+        private final String nickname;
+        private final int score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(final UUID userId, final long entrantId, final String nickname, final int score) {
+            this.userId = userId;
+            this.entrantId = entrantId;
+            this.nickname = nickname;
+            this.score = score;
+        }
+
+        private void recount() {
+            size = 1 + QuizLeaderboard.size(left) + QuizLeaderboard.size(right);
+        }
+
+        private LeaderboardEntryDto toEntry(final int rank) {
+            return new LeaderboardEntryDto(userId, nickname, score, rank);
+        }
+    }
+}
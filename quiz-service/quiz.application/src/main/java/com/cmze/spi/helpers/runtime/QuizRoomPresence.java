@@ -0,0 +1,10 @@
+package com.cmze.spi.helpers.runtime;
+
+import java.util.Set;
+import java.util.UUID;
+
+public interface QuizRoomPresence {
+    int connectedCount(UUID roomId);
+
+    Set<UUID> connectedUsers(UUID roomId);
+}
@@ -0,0 +1,427 @@
+package com.cmze.spi.helpers.runtime;
+
+import com.cmze.entity.QuizRoom;
+import com.cmze.enums.QuizRoomStatus;
+import com.cmze.spi.helpers.form.CompiledQuizForm;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class QuizRoomRuntime {
+
+    private static final long ANSWER_GRACE_MS = 2000;
+    private static final int DEFAULT_CAPACITY = 1000;
+
+    private final UUID roomId;
+    private final UUID hostId;
+    private final int timePerQuestion;
+    private final CompiledQuizForm form;
+    private final Map<UUID, QuizEntrantState> entrants = new ConcurrentHashMap<>();
+    private final AtomicLongArray[] answeredSlots;
+    private final AtomicIntegerArray answeredCounts;
+    private final Set<Long> overflowAnswers = ConcurrentHashMap.newKeySet();
+    private final AtomicIntegerArray optionPicks;
+    private final AtomicInteger entrantCount = new AtomicInteger();
+    private final AtomicInteger seatsTaken = new AtomicInteger();
+    private final Set<String> nicknames = ConcurrentHashMap.newKeySet();
+    private final int seatLimit;
+    private final QuizLeaderboard leaderboard = new QuizLeaderboard();
+
+    private volatile Phase phase;
+    private volatile AnswerQuorum quorum;
+
+    private QuizRoomRuntime(final UUID roomId,
+                            final UUID hostId,
+                            final int timePerQuestion,
+                            final CompiledQuizForm form,
+                            final Phase phase,
+                            final int seatLimit,
+                            final int slotCapacity) {
+        this.roomId = roomId;
+        this.hostId = hostId;
+        this.timePerQuestion = timePerQuestion;
+        this.form = form;
+        this.phase = phase;
+        this.seatLimit = seatLimit;
+        this.answeredSlots = new AtomicLongArray[form.getQuestionCount()];
+        this.answeredCounts = new AtomicIntegerArray(form.getQuestionCount());
+        this.optionPicks = new AtomicIntegerArray(form.getOptionSlotCount());
+
+        final int words = (slotCapacity + Long.SIZE) / Long.SIZE;
+        for (int i = 0; i < answeredSlots.length; i++) {
+            answeredSlots[i] = new AtomicLongArray(words);
+        }
+    }
+
+    public static QuizRoomRuntime compile(final QuizRoom room, final CompiledQuizForm form, final int loadedEntrants) {
+        final int seatLimit = room.getMaxParticipants() != null ? room.getMaxParticipants() : DEFAULT_CAPACITY;
+
+        return new QuizRoomRuntime(
+                room.getId(),
+                room.getHostId(),
+                room.getTimePerQuestion(),
+                form,
+                Phase.of(room),
+                seatLimit,
+                Math.max(seatLimit, loadedEntrants)
+        );
+    }
+
+    public static QuizRoomRuntime finished(final QuizRoom room, final CompiledQuizForm form) {
+        return new QuizRoomRuntime(
+                room.getId(),
+                room.getHostId(),
+                room.getTimePerQuestion(),
+                form,
+                Phase.of(room),
+                0,
+                0
+        );
+    }
+
+    public synchronized void sync(final QuizRoom room) {
+        this.phase = Phase.of(room);
+    }
+
+    public AnswerVerdict evaluate(final Long questionId, final Long selectedOptionId, final LocalDateTime now) {
+        final var current = this.phase;
+
+        if (current.status() != QuizRoomStatus.QUESTION_ACTIVE) {
+            return AnswerVerdict.rejected(AnswerVerdict.Outcome.QUESTION_NOT_ACTIVE);
+        }
+
+        final int index = current.questionIndex();
+        if (index < 0 || index >= form.getQuestionCount()) {
+            return AnswerVerdict.rejected(AnswerVerdict.Outcome.INVALID_STATE);
+        }
+
+        if (questionId == null || form.questionId(index) != questionId) {
+            return AnswerVerdict.rejected(AnswerVerdict.Outcome.WRONG_QUESTION);
+        }
+
+        final long elapsedMs = ChronoUnit.MILLIS.between(current.startTime(), now);
+        if (elapsedMs > timePerQuestion * 1000L + ANSWER_GRACE_MS) {
+            return AnswerVerdict.rejected(AnswerVerdict.Outcome.TIME_UP);
+        }
+
+        final int optionSlot = form.optionSlot(index, selectedOptionId);
+        if (optionSlot < 0) {
+            return AnswerVerdict.rejected(AnswerVerdict.Outcome.INVALID_OPTION);
+        }
+
+        return new AnswerVerdict(
+                AnswerVerdict.Outcome.ACCEPTED,
+                index,
+                form.questionId(index),
+                selectedOptionId,
+                optionSlot,
+                form.isCorrect(optionSlot),
+                form.points(index),
+                elapsedMs
+        );
+    }
+
+    public synchronized boolean shortenQuestionEnd(final int questionIndex, final LocalDateTime newEndTime) {
+        final var current = this.phase;
+
+        if (current.status() != QuizRoomStatus.QUESTION_ACTIVE || current.questionIndex() != questionIndex) {
+            return false;
+        }
+        if (current.endTime() != null && !newEndTime.isBefore(current.endTime())) {
+            return false;
+        }
+
+        this.phase = new Phase(current.status(), current.questionIndex(), current.startTime(), newEndTime);
+        return true;
+    }
+
+    public Optional<QuizEntrantState> findEntrant(final UUID userId) {
+        return Optional.ofNullable(entrants.get(userId));
+    }
+
+    public boolean reserveNickname(final String nickname) {
+        return nicknames.add(nickname);
+    }
+
+    public void releaseNickname(final String nickname) {
+        nicknames.remove(nickname);
+    }
+
+    public boolean reserveSeat() {
+        int taken;
+        do {
+            taken = seatsTaken.get();
+            if (taken >= seatLimit) {
+                return false;
+            }
+        } while (!seatsTaken.compareAndSet(taken, taken + 1));
+
+        return true;
+    }
+
+    public void releaseSeat() {
+        seatsTaken.decrementAndGet();
+    }
+
+    public QuizEntrantState admitEntrant(final QuizEntrantState state) {
+        return register(state, true);
+    }
+
+    public QuizEntrantState registerEntrant(final QuizEntrantState state) {
+        return register(state, false);
+    }
+
+    private synchronized QuizEntrantState register(final QuizEntrantState state, final boolean seatReserved) {
+        final var existing = entrants.get(state.getUserId());
+        if (existing != null) {
+            if (seatReserved) {
+                releaseSeat();
+            }
+            return existing;
+        }
+
+        if (!seatReserved) {
+            seatsTaken.incrementAndGet();
+        }
+        nicknames.add(state.getNickname());
+
+        state.assignSlot(entrantCount.getAndIncrement());
+        entrants.put(state.getUserId(), state);
+        updateStanding(state, state.currentScore().totalScore());
+        return state;
+    }
+
+    public void updateStanding(final QuizEntrantState entrant, final int totalScore) {
+        if (!entrant.getUserId().equals(hostId)) {
+            leaderboard.update(entrant, totalScore);
+        }
+    }
+
+    public boolean markAnswered(final int questionIndex, final int slot) {
+        final var bitmap = answeredSlots[questionIndex];
+        final int word = slot >>> 6;
+
+        if (word >= bitmap.length()) {
+            // entrants registered past the sized capacity (e.g. joined through another instance)
+            if (!overflowAnswers.add(overflowKey(questionIndex, slot))) {
+                return false;
+            }
+            answeredCounts.incrementAndGet(questionIndex);
+            return true;
+        }
+
+        final long bit = 1L << slot;
+        long current;
+        do {
+            current = bitmap.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+        } while (!bitmap.compareAndSet(word, current, current | bit));
+
+        answeredCounts.incrementAndGet(questionIndex);
+        return true;
+    }
+
+    /**
+     * Undoes a successful {@link #markAnswered} when the answer could not be recorded, so the player can retry.
+     */
+    public void unmarkAnswered(final int questionIndex, final int slot) {
+        final var bitmap = answeredSlots[questionIndex];
+        final int word = slot >>> 6;
+
+        if (word >= bitmap.length()) {
+            if (overflowAnswers.remove(overflowKey(questionIndex, slot))) {
+                answeredCounts.decrementAndGet(questionIndex);
+            }
+            return;
+        }
+
+        final long bit = 1L << slot;
+        long current;
+        do {
+            current = bitmap.get(word);
+            if ((current & bit) == 0) {
+                return;
+            }
+        } while (!bitmap.compareAndSet(word, current, current & ~bit));
+
+        answeredCounts.decrementAndGet(questionIndex);
+    }
+
+    /**
+     * Called after {@link #markAnswered} succeeded for {@code slot}. Connected players are looked up once
+     * per question; afterwards every answer only clears its own pending bit.
+     */
+    public boolean allAnswered(final int questionIndex, final int slot, final Supplier<Set<UUID>> connectedUsers) {
+        var current = this.quorum;
+        if (current == null || current.questionIndex != questionIndex) {
+            current = openQuorum(questionIndex, connectedUsers);
+        }
+
+        if (current.connectedPlayers == 0) {
+            // no player is known to be connected (REST-only clients): wait for every entrant
+            final int players = entrantCount.get() - 1;
+            return players > 0 && answeredCounts.get(questionIndex) >= players;
+        }
+
+        return current.answered(slot);
+    }
+
+    private synchronized AnswerQuorum openQuorum(final int questionIndex, final Supplier<Set<UUID>> connectedUsers) {
+        final var current = this.quorum;
+        if (current != null && current.questionIndex == questionIndex) {
+            return current;
+        }
+
+        final var pending = new AtomicLongArray((entrantCount.get() + Long.SIZE) / Long.SIZE);
+        int connectedPlayers = 0;
+        int remaining = 0;
+
+        for (final var userId : connectedUsers.get()) {
+            final var entrant = userId.equals(hostId) ? null : entrants.get(userId);
+            if (entrant == null || (entrant.getSlot() >>> 6) >= pending.length()) {
+                continue;
+            }
+            connectedPlayers++;
+            if (!hasAnswered(questionIndex, entrant.getSlot())) {
+                pending.getAndAccumulate(entrant.getSlot() >>> 6, 1L << entrant.getSlot(), (word, bit) -> word | bit);
+                remaining++;
+            }
+        }
+
+        final var opened = new AnswerQuorum(questionIndex, connectedPlayers, pending, remaining);
+        this.quorum = opened;
+        return opened;
+    }
+
+    public void countOptionPick(final int optionSlot) {
+        optionPicks.incrementAndGet(optionSlot);
+    }
+
+    public void countOptionPick(final int questionIndex, final Long optionId) {
+        final int slot = form.optionSlot(questionIndex, optionId);
+        if (slot >= 0) {
+            optionPicks.incrementAndGet(slot);
+        }
+    }
+
+    public Map<Long, Long> getAnswerStats(final int questionIndex) {
+        if (questionIndex < 0 || questionIndex >= form.getQuestionCount()) {
+            return Map.of();
+        }
+
+        final int first = form.firstOptionSlot(questionIndex);
+        final int count = form.optionCount(questionIndex);
+        final var stats = new LinkedHashMap<Long, Long>(count * 2);
+
+        for (int slot = first; slot < first + count; slot++) {
+            stats.put(form.optionId(slot), (long) optionPicks.get(slot));
+        }
+        return stats;
+    }
+
+    public boolean hasAnswered(final int questionIndex, final int slot) {
+        final var bitmap = answeredSlots[questionIndex];
+        final int word = slot >>> 6;
+
+        if (slot < 0) {
+            return false;
+        }
+        if (word >= bitmap.length()) {
+            return overflowAnswers.contains(overflowKey(questionIndex, slot));
+        }
+        return (bitmap.get(word) & (1L << slot)) != 0;
+    }
+
+    private static long overflowKey(final int questionIndex, final int slot) {
+        return ((long) questionIndex << 32) | slot;
+    }
+
+    public int getAnsweredCount(final int questionIndex) {
+        return answeredCounts.get(questionIndex);
+    }
+
+    public int getEntrantCount() {
+        return entrantCount.get();
+    }
+
+    public QuizLeaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public UUID getHostId() {
+        return hostId;
+    }
+
+    public int getTimePerQuestion() {
+        return timePerQuestion;
+    }
+
+    public int getQuestionCount() {
+        return form.getQuestionCount();
+    }
+
+    public CompiledQuizForm getForm() {
+        return form;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    private static final class AnswerQuorum {
+
+        private final int questionIndex;
+        private final int connectedPlayers;
+        private final AtomicLongArray pending;
+        private final AtomicInteger remaining;
+
+        private AnswerQuorum(final int questionIndex, final int connectedPlayers, final AtomicLongArray pending, final int remaining) {
+            this.questionIndex = questionIndex;
+            this.connectedPlayers = connectedPlayers;
+            this.pending = pending;
+            this.remaining = new AtomicInteger(remaining);
+        }
+
+        private boolean answered(final int slot) {
+            final int word = slot >>> 6;
+            if (word < pending.length()) {
+                final long bit = 1L << slot;
+                if ((pending.getAndAccumulate(word, bit, (current, mask) -> current & ~mask) & bit) != 0) {
+                    return remaining.decrementAndGet() == 0;
+                }
+            }
+            return remaining.get() == 0;
+        }
+    }
+
+    public record Phase(QuizRoomStatus status,
+                        int questionIndex,
+                        LocalDateTime startTime,
+                        LocalDateTime endTime) {
+
+        static Phase of(final QuizRoom room) {
+            return new Phase(
+                    room.getStatus(),
+                    room.getCurrentQuestionIndex(),
+                    room.getCurrentQuestionStartTime(),
+                    room.getCurrentQuestionEndTime()
+            );
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.cmze.spi.helpers.runtime;
+
+import com.cmze.entity.QuizRoom;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface QuizRoomRuntimeRegistry {
+    Optional<QuizRoomRuntime> find(UUID roomId);
+
+    Optional<QuizRoomRuntime> findLoaded(UUID roomId);
+
+    void attach(QuizRoom room);
+
+    void evict(UUID roomId);
+}
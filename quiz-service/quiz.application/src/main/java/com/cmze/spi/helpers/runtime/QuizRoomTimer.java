@@ -0,0 +1,10 @@
+package com.cmze.spi.helpers.runtime;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface QuizRoomTimer {
+    void schedule(UUID roomId, LocalDateTime deadline);
+
+    void cancel(UUID roomId);
+}
@@ -3,6 +3,7 @@ package com.cmze.usecase.form;
 import com.cmze.repository.QuizFormRepository;
 import com.cmze.repository.QuizRoomRepository;
 import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.form.QuizFormCache;
 import com.cmze.usecase.UseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,11 +21,14 @@ public class DeleteQuizFormUseCase {
 
     private final QuizFormRepository quizFormRepository;
     private final QuizRoomRepository quizRoomRepository;
+    private final QuizFormCache quizFormCache;
 
     public DeleteQuizFormUseCase(final QuizFormRepository quizFormRepository,
-                                 final QuizRoomRepository quizRoomRepository) {
+                                 final QuizRoomRepository quizRoomRepository,
+                                 final QuizFormCache quizFormCache) {
         this.quizFormRepository = quizFormRepository;
         this.quizRoomRepository = quizRoomRepository;
+        this.quizFormCache = quizFormCache;
     }
 
     @Transactional
@@ -60,6 +64,7 @@ public class DeleteQuizFormUseCase {
 
             form.setDeleted(true);
             quizFormRepository.save(form);
+            quizFormCache.invalidate(formId);
 
             logger.info("Quiz form {} soft-deleted by user {}", formId, userId);
             return ActionResult.success(null);
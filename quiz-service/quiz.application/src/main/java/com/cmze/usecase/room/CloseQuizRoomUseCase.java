@@ -5,6 +5,9 @@ import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizRoomRepository;
 import com.cmze.shared.ActionResult;
 import com.cmze.spi.helpers.room.LeaderboardEntryDto;
+import com.cmze.spi.helpers.runtime.QuizAnswerBuffer;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
+import com.cmze.spi.helpers.runtime.QuizRoomTimer;
 import com.cmze.usecase.UseCase;
 import com.cmze.ws.event.QuizRoomClosedEvent;
 import org.slf4j.Logger;
@@ -25,11 +28,20 @@ public class CloseQuizRoomUseCase {
 
     private final QuizRoomRepository quizRoomRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
+    private final QuizRoomTimer quizRoomTimer;
+    private final QuizAnswerBuffer quizAnswerBuffer;
 
     public CloseQuizRoomUseCase(final QuizRoomRepository quizRoomRepository,
-                                final ApplicationEventPublisher eventPublisher) {
+                                final ApplicationEventPublisher eventPublisher,
+                                final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry,
+                                final QuizRoomTimer quizRoomTimer,
+                                final QuizAnswerBuffer quizAnswerBuffer) {
         this.quizRoomRepository = quizRoomRepository;
         this.eventPublisher = eventPublisher;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
+        this.quizRoomTimer = quizRoomTimer;
+        this.quizAnswerBuffer = quizAnswerBuffer;
     }
 
     @Transactional
@@ -84,6 +96,9 @@ public class CloseQuizRoomUseCase {
         room.setCurrentQuestionEndTime(null);
 
         quizRoomRepository.save(room);
+        quizRoomRuntimeRegistry.evict(room.getId());
+        quizRoomTimer.cancel(room.getId());
+        quizAnswerBuffer.flush();
 
         final var finalRanking = new ArrayList<LeaderboardEntryDto>();
 
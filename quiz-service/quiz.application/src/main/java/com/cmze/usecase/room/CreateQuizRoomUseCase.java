@@ -1,6 +1,5 @@
 package com.cmze.usecase.room;
 
-import com.cmze.entity.QuizForm;
 import com.cmze.entity.QuizRoom;
 import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizFormRepository;
@@ -10,6 +9,9 @@ import com.cmze.request.JoinQuizRoomRequest;
 import com.cmze.response.CreateQuizRoomResponse;
 import com.cmze.response.JoinQuizRoomResponse;
 import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.form.CompiledQuizForm;
+import com.cmze.spi.helpers.form.QuizFormCache;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
 import com.cmze.usecase.UseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,17 +35,24 @@ public class CreateQuizRoomUseCase {
     private final QuizFormRepository quizFormRepository;
     private final QuizRoomRepository quizRoomRepository;
     private final JoinQuizRoomUseCase joinQuizRoomUseCase;
+    private final QuizFormCache quizFormCache;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
 
     public CreateQuizRoomUseCase(final QuizFormRepository quizFormRepository,
                                  final QuizRoomRepository quizRoomRepository,
-                                 final JoinQuizRoomUseCase joinQuizRoomUseCase) {
+                                 final JoinQuizRoomUseCase joinQuizRoomUseCase,
+                                 final QuizFormCache quizFormCache,
+                                 final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry) {
         this.quizFormRepository = quizFormRepository;
         this.quizRoomRepository = quizRoomRepository;
         this.joinQuizRoomUseCase = joinQuizRoomUseCase;
+        this.quizFormCache = quizFormCache;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
     }
 
     @Transactional
     public ActionResult<CreateQuizRoomResponse> execute(final CreateQuizRoomRequest request, final UUID hostId) {
+        UUID createdRoomId = null;
         try {
             logger.info("Attempting to create quiz room for form {} by user {}", request.getQuizFormId(), hostId);
 
@@ -65,7 +74,9 @@ public class CreateQuizRoomUseCase {
                 ));
             }
 
-            final var timeValidationResult = validateQuizTime(form, request.getTimePerQuestion());
+            final var compiledForm = quizFormCache.find(form.getId()).orElseThrow();
+
+            final var timeValidationResult = validateQuizTime(compiledForm, request.getTimePerQuestion());
 
             if (timeValidationResult.isFailure()) {
                 return timeValidationResult;
@@ -84,6 +95,7 @@ public class CreateQuizRoomUseCase {
             room.setValidUntil(LocalDateTime.now().plusMinutes(ROOM_TTL_MINUTES_FINAL_COUNTDOWN));
 
             final var savedRoom = quizRoomRepository.save(room);
+            createdRoomId = savedRoom.getId();
 
             final var joinRequest = new JoinQuizRoomRequest(
                     "HOST",
@@ -100,6 +112,7 @@ public class CreateQuizRoomUseCase {
                 logger.error("FATAL: Failed to join host to quiz room {}. Rolling back.", savedRoom.getId());
 
                 TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                quizRoomRuntimeRegistry.evict(savedRoom.getId());
 
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(
                         HttpStatus.INTERNAL_SERVER_ERROR,
@@ -107,6 +120,9 @@ public class CreateQuizRoomUseCase {
                 ));
             }
 
+            // room creation is not routed by room id, so this instance may not own the room
+            quizRoomRuntimeRegistry.evict(savedRoom.getId());
+
             logger.info("Quiz Room {} created successfully (Status: LOBBY).", savedRoom.getId());
 
             return ActionResult.success(new CreateQuizRoomResponse(
@@ -119,6 +135,9 @@ public class CreateQuizRoomUseCase {
         } catch (Exception e) {
             logger.error("Unexpected error creating quiz room", e);
             TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            if (createdRoomId != null) {
+                quizRoomRuntimeRegistry.evict(createdRoomId);
+            }
 
             return ActionResult.failure(ProblemDetail.forStatusAndDetail(
                     HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred while creating the quiz room."
@@ -126,8 +145,8 @@ public class CreateQuizRoomUseCase {
         }
     }
 
-    private ActionResult<CreateQuizRoomResponse> validateQuizTime(QuizForm quizForm, int timePerQuestion) {
-        int questionCount = quizForm.getQuestions() != null ? quizForm.getQuestions().size() : 0;
+    private ActionResult<CreateQuizRoomResponse> validateQuizTime(CompiledQuizForm quizForm, int timePerQuestion) {
+        int questionCount = quizForm.getQuestionCount();
 
         long requiredSeconds = (long) questionCount * timePerQuestion;
         long availableSeconds = MAX_SESSION_DURATION_MINUTES * 60L;
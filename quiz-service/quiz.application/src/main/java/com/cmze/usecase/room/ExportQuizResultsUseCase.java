@@ -0,0 +1,87 @@
+package com.cmze.usecase.room;
+
+import com.cmze.enums.QuizRoomStatus;
+import com.cmze.repository.QuizRoomRepository;
+import com.cmze.response.ExportQuizResultsResponse;
+import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.room.QuizExportFormat;
+import com.cmze.spi.helpers.room.QuizResultExporter;
+import com.cmze.spi.helpers.runtime.QuizAnswerBuffer;
+import com.cmze.usecase.UseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import java.util.UUID;
+
+@UseCase
+public class ExportQuizResultsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportQuizResultsUseCase.class);
+
+    private final QuizRoomRepository quizRoomRepository;
+    private final QuizResultExporter quizResultExporter;
+    private final QuizAnswerBuffer quizAnswerBuffer;
+
+    public ExportQuizResultsUseCase(final QuizRoomRepository quizRoomRepository,
+                                    final QuizResultExporter quizResultExporter,
+                                    final QuizAnswerBuffer quizAnswerBuffer) {
+        this.quizRoomRepository = quizRoomRepository;
+        this.quizResultExporter = quizResultExporter;
+        this.quizAnswerBuffer = quizAnswerBuffer;
+    }
+
+    public ActionResult<ExportQuizResultsResponse> execute(final UUID roomId, final UUID userId, final String format) {
+        try {
+            final var formatOpt = QuizExportFormat.parse(format);
+            if (formatOpt.isEmpty()) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.BAD_REQUEST, "Unsupported export format: " + format
+                ));
+            }
+            final var exportFormat = formatOpt.get();
+
+            final var roomOpt = quizRoomRepository.findById(roomId);
+            if (roomOpt.isEmpty()) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "Room not found"));
+            }
+            final var room = roomOpt.get();
+
+            if (!room.getHostId().equals(userId)) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.FORBIDDEN, "Only the host can export room results."
+                ));
+            }
+
+            if (room.getStatus() != QuizRoomStatus.FINISHED) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.CONFLICT, "Results can be exported once the quiz is finished."
+                ));
+            }
+
+            // answers accepted just before the finish may still sit in the write-behind buffer
+            quizAnswerBuffer.flush();
+            if (quizAnswerBuffer.hasPending(roomId)) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.SERVICE_UNAVAILABLE, "Results are still being saved. Try again shortly."
+                ));
+            }
+
+            final var hostId = room.getHostId();
+            final var fileName = "quiz-" + roomId + "-results." + exportFormat.getExtension();
+
+            return ActionResult.success(new ExportQuizResultsResponse(
+                    fileName,
+                    exportFormat.getContentType(),
+                    out -> quizResultExporter.export(roomId, hostId, exportFormat, out)
+            ));
+
+        } catch (Exception e) {
+            logger.error("Failed to prepare export for quiz room {}: {}", roomId, e.getMessage(), e);
+            return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                    HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred while preparing the export."
+            ));
+        }
+    }
+}
@@ -6,17 +6,23 @@ import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizRoomRepository;
 import com.cmze.shared.ActionResult;
 import com.cmze.spi.helpers.room.QuizResultCounter;
+import com.cmze.ws.event.QuizLeaderboardDeltaEvent;
 import com.cmze.ws.event.QuizLeaderboardEvent;
+import com.cmze.spi.helpers.runtime.QuizAnswerBuffer;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
+import com.cmze.spi.helpers.runtime.QuizRoomTimer;
 import com.cmze.usecase.UseCase;
 import com.cmze.ws.event.QuizQuestionFinishedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -26,17 +32,28 @@ public class FinishCurrentQuestionUseCase {
     private static final Logger logger = LoggerFactory.getLogger(FinishCurrentQuestionUseCase.class);
 
     private static final int INTERMISSION_SECONDS = 10;
+    private static final Duration TIMER_TOLERANCE = Duration.ofMillis(250);
+    private static final int LEADERBOARD_TOP_SIZE = 10;
 
     private final QuizRoomRepository quizRoomRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
+    private final QuizRoomTimer quizRoomTimer;
+    private final QuizAnswerBuffer quizAnswerBuffer;
     private final QuizResultCounter quizResultCounter;
 
     public FinishCurrentQuestionUseCase(final QuizRoomRepository quizRoomRepository,
                                         final ApplicationEventPublisher eventPublisher,
-                                        final QuizResultCounter quizResultCounter) {
+                                        final QuizResultCounter quizResultCounter,
+                                        final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry,
+                                        final QuizRoomTimer quizRoomTimer,
+                                        final QuizAnswerBuffer quizAnswerBuffer) {
         this.quizRoomRepository = quizRoomRepository;
         this.eventPublisher = eventPublisher;
         this.quizResultCounter = quizResultCounter;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
+        this.quizRoomTimer = quizRoomTimer;
+        this.quizAnswerBuffer = quizAnswerBuffer;
     }
 
     @Transactional
@@ -60,6 +77,9 @@ public class FinishCurrentQuestionUseCase {
             finishQuestionInternal(room);
             return ActionResult.success(null);
 
+        } catch (OptimisticLockingFailureException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "Room phase changed concurrently"));
         } catch (Exception e) {
             logger.error("Error finishing question manually", e);
             TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
@@ -68,15 +88,26 @@ public class FinishCurrentQuestionUseCase {
     }
 
     @Transactional
-    public void executeSystem(final QuizRoom room) {
+    public void executeSystem(final UUID roomId) {
         try {
-            final var freshRoom = quizRoomRepository.findByIdWithFullQuizStructure(room.getId()).orElseThrow();
+            final var freshRoom = quizRoomRepository.findByIdWithFullQuizStructure(roomId).orElseThrow();
+
+            if (freshRoom.getStatus() != QuizRoomStatus.QUESTION_ACTIVE) {
+                return;
+            }
 
-            if (freshRoom.getStatus() == QuizRoomStatus.QUESTION_ACTIVE) {
-                finishQuestionInternal(freshRoom);
+            final var deadline = freshRoom.getCurrentQuestionEndTime();
+            if (deadline != null && deadline.isAfter(LocalDateTime.now().plus(TIMER_TOLERANCE))) {
+                logger.debug("Ignoring early timer for room {}: phase ends at {}", roomId, deadline);
+                return;
             }
+
+            finishQuestionInternal(freshRoom);
+        } catch (OptimisticLockingFailureException e) {
+            logger.info("Quiz room {} was already finished by another instance", roomId);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
         } catch (Exception e) {
-            logger.error("System failed to finish question for room {}", room.getId(), e);
+            logger.error("System failed to finish question for room {}", roomId, e);
         }
     }
 
@@ -87,7 +118,9 @@ public class FinishCurrentQuestionUseCase {
 
         room.setCurrentQuestionEndTime(LocalDateTime.now().plusSeconds(INTERMISSION_SECONDS));
 
-        quizRoomRepository.save(room);
+        quizRoomRepository.saveAndFlush(room);
+        quizRoomRuntimeRegistry.attach(room);
+        quizRoomTimer.schedule(room.getId(), room.getCurrentQuestionEndTime());
 
         final var questions = room.getQuiz().getQuestions();
         final int currentIndex = room.getCurrentQuestionIndex();
@@ -103,17 +136,44 @@ public class FinishCurrentQuestionUseCase {
                     .orElse(null);
         }
 
-        final var resultsDto = quizResultCounter.calculate(room.getId());
+        quizAnswerBuffer.flush();
 
-        eventPublisher.publishEvent(new QuizLeaderboardEvent(
-                room.getId(),
-                resultsDto.getLeaderboard()
-        ));
+        publishLeaderboard(room);
+
+        final var answerStats = quizRoomRuntimeRegistry.findLoaded(room.getId())
+                .map(runtime -> runtime.getAnswerStats(currentIndex))
+                .orElse(null);
 
         eventPublisher.publishEvent(new QuizQuestionFinishedEvent(
                 room.getId(),
                 (questions.isEmpty()) ? null : questions.get(currentIndex).getId(),
-                correctOptionId
+                correctOptionId,
+                answerStats
+        ));
+    }
+
+    private void publishLeaderboard(final QuizRoom room) {
+        final var runtimeOpt = quizRoomRuntimeRegistry.findLoaded(room.getId());
+
+        if (runtimeOpt.isEmpty()) {
+            final var resultsDto = quizResultCounter.calculate(room.getId());
+
+            eventPublisher.publishEvent(new QuizLeaderboardEvent(
+                    room.getId(),
+                    resultsDto.getLeaderboard()
+            ));
+            return;
+        }
+
+        final var delta = runtimeOpt.get().getLeaderboard().publishDelta(LEADERBOARD_TOP_SIZE);
+
+        eventPublisher.publishEvent(new QuizLeaderboardDeltaEvent(
+                room.getId(),
+                delta.epoch(),
+                delta.sequence(),
+                delta.totalPlayers(),
+                delta.topPlayers(),
+                delta.changedEntries()
         ));
     }
 }
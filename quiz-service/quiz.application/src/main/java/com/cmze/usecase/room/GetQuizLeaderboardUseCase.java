@@ -0,0 +1,71 @@
+package com.cmze.usecase.room;
+
+import com.cmze.repository.QuizRoomRepository;
+import com.cmze.response.GetQuizLeaderboardResponse;
+import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.room.QuizResultCounter;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
+import com.cmze.usecase.UseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@UseCase
+public class GetQuizLeaderboardUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetQuizLeaderboardUseCase.class);
+
+    private final QuizRoomRepository quizRoomRepository;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
+    private final QuizResultCounter quizResultCounter;
+
+    public GetQuizLeaderboardUseCase(final QuizRoomRepository quizRoomRepository,
+                                     final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry,
+                                     final QuizResultCounter quizResultCounter) {
+        this.quizRoomRepository = quizRoomRepository;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
+        this.quizResultCounter = quizResultCounter;
+    }
+
+    @Transactional(readOnly = true)
+    public ActionResult<GetQuizLeaderboardResponse> execute(final UUID roomId) {
+        try {
+            final var runtimeOpt = quizRoomRuntimeRegistry.findLoaded(roomId);
+
+            if (runtimeOpt.isPresent()) {
+                final var snapshot = runtimeOpt.get().getLeaderboard().lastPublished();
+
+                return ActionResult.success(new GetQuizLeaderboardResponse(
+                        snapshot.epoch(),
+                        snapshot.sequence(),
+                        snapshot.totalPlayers(),
+                        snapshot.entries()
+                ));
+            }
+
+            if (quizRoomRepository.findById(roomId).isEmpty()) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "Room not found"));
+            }
+
+            final var results = quizResultCounter.calculate(roomId);
+
+            return ActionResult.success(new GetQuizLeaderboardResponse(
+                    null,
+                    0L,
+                    results.getTotalParticipants(),
+                    results.getLeaderboard()
+            ));
+
+        } catch (Exception e) {
+            logger.error("Failed to fetch leaderboard for quiz room {}: {}", roomId, e.getMessage(), e);
+            return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    "An unexpected error occurred while loading the leaderboard."
+            ));
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.cmze.usecase.room;
 
-import com.cmze.entity.Question;
 import com.cmze.entity.QuizRoom;
 import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizEntrantRepository;
@@ -9,7 +8,11 @@ import com.cmze.response.GetQuizRoomDetails.GetCurrentQuestionResponse;
 import com.cmze.response.GetQuizRoomDetails.GetQuestionOptionResponse;
 import com.cmze.response.GetQuizRoomDetails.GetQuizRoomDetailsResponse;
 import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.form.CompiledQuizForm;
+import com.cmze.spi.helpers.form.QuizFormCache;
 import com.cmze.spi.helpers.room.QuizResultCounter;
+import com.cmze.spi.helpers.runtime.QuizRoomPresence;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
 import com.cmze.usecase.UseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,9 +20,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @UseCase
 public class GetQuizRoomDetailsUseCase {
@@ -29,19 +32,28 @@ public class GetQuizRoomDetailsUseCase {
     private final QuizRoomRepository quizRoomRepository;
     private final QuizEntrantRepository quizEntrantRepository;
     private final QuizResultCounter quizResultCounter;
+    private final QuizFormCache quizFormCache;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
+    private final QuizRoomPresence quizRoomPresence;
 
     public GetQuizRoomDetailsUseCase(final QuizRoomRepository quizRoomRepository,
                                      final QuizEntrantRepository quizEntrantRepository,
-                                     final QuizResultCounter quizResultCounter) {
+                                     final QuizResultCounter quizResultCounter,
+                                     final QuizFormCache quizFormCache,
+                                     final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry,
+                                     final QuizRoomPresence quizRoomPresence) {
         this.quizRoomRepository = quizRoomRepository;
         this.quizEntrantRepository = quizEntrantRepository;
         this.quizResultCounter = quizResultCounter;
+        this.quizFormCache = quizFormCache;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
+        this.quizRoomPresence = quizRoomPresence;
     }
 
     @Transactional(readOnly = true)
     public ActionResult<GetQuizRoomDetailsResponse> execute(final UUID roomId, final UUID requestingUserId) {
         try {
-            final var roomOpt = quizRoomRepository.findByIdWithQuiz(roomId);
+            final var roomOpt = quizRoomRepository.findById(roomId);
 
             if (roomOpt.isEmpty()) {
                 logger.warn("Quiz room details not found for id: {}", roomId);
@@ -51,6 +63,7 @@ public class GetQuizRoomDetailsUseCase {
             }
 
             final var room = roomOpt.get();
+            final var form = quizFormCache.find(room.getQuiz().getId()).orElseThrow();
 
             final var results = quizResultCounter.calculate(room.getId());
 
@@ -60,18 +73,20 @@ public class GetQuizRoomDetailsUseCase {
                     .findByQuizRoom_IdAndUserId(roomId, requestingUserId)
                     .isPresent();
 
-            final var currentQuestionDto = resolveCurrentQuestion(room);
+            final var currentQuestionDto = resolveCurrentQuestion(room, form);
 
             final var response = new GetQuizRoomDetailsResponse(
                     room.getId(),
-                    room.getQuiz().getTitle(),
+                    form.getTitle(),
                     room.getHostId(),
                     isParticipant,
                     room.getStatus(),
                     room.isPrivate(),
                     participantsCount,
+                    quizRoomPresence.connectedCount(roomId),
                     results,
-                    currentQuestionDto
+                    currentQuestionDto,
+                    resolveAnswerStats(room, requestingUserId)
             );
 
             return ActionResult.success(response);
@@ -85,30 +100,39 @@ public class GetQuizRoomDetailsUseCase {
         }
     }
 
-    private GetCurrentQuestionResponse resolveCurrentQuestion(final QuizRoom room) {
-        if (room.getStatus() == QuizRoomStatus.QUESTION_ACTIVE && room.getCurrentQuestionIndex() >= 0) {
-            final var qEntity = room.getQuiz().getQuestions().get(room.getCurrentQuestionIndex());
-            return mapToCurrentQuestionDto(qEntity,
-                                           room.getCurrentQuestionStartTime(),
-                                           room.getTimePerQuestion(),
-                                           room.getCurrentQuestionIndex()
-            );
+    private Map<Long, Long> resolveAnswerStats(final QuizRoom room, final UUID requestingUserId) {
+        final boolean visible = room.getStatus() == QuizRoomStatus.QUESTION_FINISHED
+                || (room.getStatus() == QuizRoomStatus.QUESTION_ACTIVE && room.getHostId().equals(requestingUserId));
+
+        if (!visible) {
+            return null;
         }
-        return null;
+
+        return quizRoomRuntimeRegistry.findLoaded(room.getId())
+                .map(runtime -> runtime.getAnswerStats(room.getCurrentQuestionIndex()))
+                .orElse(null);
     }
 
-    private GetCurrentQuestionResponse mapToCurrentQuestionDto(Question q, LocalDateTime startTime, int timeLimit, int index) {
-        final var options = q.getOptions().stream()
-                .map(o -> new GetQuestionOptionResponse(o.getId(), o.getText()))
-                .collect(Collectors.toList());
-
-        return new GetCurrentQuestionResponse(
-                q.getId(),
-                index,
-                q.getTitle(),
-                startTime,
-                timeLimit,
-                options
-        );
+    private GetCurrentQuestionResponse resolveCurrentQuestion(final QuizRoom room, final CompiledQuizForm form) {
+        final int index = room.getCurrentQuestionIndex();
+
+        if (room.getStatus() == QuizRoomStatus.QUESTION_ACTIVE && index >= 0 && index < form.getQuestionCount()) {
+            final var options = new ArrayList<GetQuestionOptionResponse>(form.optionCount(index));
+            final int first = form.firstOptionSlot(index);
+
+            for (int slot = first; slot < first + form.optionCount(index); slot++) {
+                options.add(new GetQuestionOptionResponse(form.optionId(slot), form.optionText(slot)));
+            }
+
+            return new GetCurrentQuestionResponse(
+                    form.questionId(index),
+                    index,
+                    form.questionTitle(index),
+                    room.getCurrentQuestionStartTime(),
+                    room.getTimePerQuestion(),
+                    options
+            );
+        }
+        return null;
     }
 }
@@ -1,7 +1,6 @@
 package com.cmze.usecase.room;
 
 import com.cmze.entity.QuizEntrant;
-import com.cmze.entity.QuizRoom;
 import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizEntrantRepository;
 import com.cmze.repository.QuizRoomRepository;
@@ -9,7 +8,11 @@ import com.cmze.request.JoinQuizRoomRequest;
 import com.cmze.response.JoinQuizRoomResponse;
 import com.cmze.response.QuizInfoResponse;
 import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.form.CompiledQuizForm;
 import com.cmze.spi.helpers.invites.SoulboundTokenService;
+import com.cmze.spi.helpers.runtime.QuizEntrantState;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntime;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
 import com.cmze.usecase.UseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,39 +34,45 @@ public class JoinQuizRoomUseCase {
     private final QuizEntrantRepository quizEntrantRepository;
     private final SoulboundTokenService soulboundTokenService;
     private final ApplicationEventPublisher eventPublisher;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
 
     public JoinQuizRoomUseCase(final QuizRoomRepository quizRoomRepository,
                                final QuizEntrantRepository quizEntrantRepository,
                                final SoulboundTokenService soulboundTokenService,
-                               final ApplicationEventPublisher eventPublisher) {
+                               final ApplicationEventPublisher eventPublisher,
+                               final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry) {
         this.quizRoomRepository = quizRoomRepository;
         this.quizEntrantRepository = quizEntrantRepository;
         this.soulboundTokenService = soulboundTokenService;
         this.eventPublisher = eventPublisher;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
     }
 
     public ActionResult<JoinQuizRoomResponse> execute(final UUID roomId, final UUID participantUserId, final JoinQuizRoomRequest request) {
         try {
-            final var roomOpt = quizRoomRepository.findByIdWithQuiz(roomId);
-            if (roomOpt.isEmpty()) {
+            final var runtimeOpt = quizRoomRuntimeRegistry.find(roomId);
+            if (runtimeOpt.isEmpty()) {
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "Quiz Room not found."));
             }
-            final var room = roomOpt.get();
+            final var runtime = runtimeOpt.get();
+            final var status = runtime.getPhase().status();
 
-            if (room.getStatus() == QuizRoomStatus.FINISHED) {
+            if (status == QuizRoomStatus.FINISHED) {
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.GONE, "Quiz has finished."));
             }
 
+            final var form = runtime.getForm();
+
             final var token = (request != null) ? request.getInvitationToken() : null;
-            if (room.getQuiz().isPrivate() && !isAccessAllowed(room, participantUserId, token)) {
+            if (form.isPrivate() && !isAccessAllowed(runtime, participantUserId, token)) {
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, "Access denied."));
             }
 
-            final var existingEntrantOpt = quizEntrantRepository.findByQuizRoom_IdAndUserId(roomId, participantUserId);
-            final boolean isHost = room.getHostId().equals(participantUserId);
+            final boolean isHost = runtime.getHostId().equals(participantUserId);
 
+            final var existingEntrantOpt = runtime.findEntrant(participantUserId);
             if (existingEntrantOpt.isPresent()) {
-                return returnSuccess(existingEntrantOpt.get(), room, isHost);
+                return returnSuccess(existingEntrantOpt.get().getEntrantId(), form, isHost, status);
             }
 
             String nickname = (request != null) ? request.getNickname() : null;
@@ -74,40 +83,47 @@ public class JoinQuizRoomUseCase {
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Nickname is required."));
             }
 
-            if (quizEntrantRepository.existsByQuizRoom_IdAndNickname(roomId, nickname)) {
+            if (!runtime.reserveNickname(nickname)) {
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "Nickname '" + nickname + "' is already taken in this room."));
             }
 
-            final long currentSize = quizEntrantRepository.countByQuizRoom_Id(roomId);
-            final int maxParticipants = (room.getMaxParticipants() != null) ? room.getMaxParticipants() : 1000;
-            if (currentSize >= maxParticipants) {
+            if (!runtime.reserveSeat()) {
+                runtime.releaseNickname(nickname);
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "Quiz Room is full."));
             }
 
             final var newEntrant = new QuizEntrant();
-            newEntrant.setQuizRoom(room);
+            newEntrant.setQuizRoom(quizRoomRepository.getReferenceById(roomId));
             newEntrant.setUserId(participantUserId);
             newEntrant.setNickname(nickname);
 
-            QuizEntrant savedParticipant;
+            final QuizEntrant savedParticipant;
             try {
                 savedParticipant = quizEntrantRepository.save(newEntrant);
-
-                final long newSize = currentSize + 1;
-
-                eventPublisher.publishEvent(new QuizEntrantJoinedEvent(
-                        roomId,
-                        savedParticipant.getId(),
-                        participantUserId,
-                        nickname,
-                        newSize
-                ));
-
+                quizRoomRepository.incrementEntrantCount(roomId);
             } catch (DataIntegrityViolationException e) {
-                savedParticipant = quizEntrantRepository.findByQuizRoom_IdAndUserId(roomId, participantUserId).orElseThrow();
+                runtime.releaseSeat();
+                runtime.releaseNickname(nickname);
+                final var existing = quizEntrantRepository.findByQuizRoom_IdAndUserId(roomId, participantUserId).orElseThrow();
+                runtime.registerEntrant(new QuizEntrantState(existing));
+                return returnSuccess(existing.getId(), form, isHost, status);
+            } catch (RuntimeException e) {
+                runtime.releaseSeat();
+                runtime.releaseNickname(nickname);
+                throw e;
             }
 
-            return returnSuccess(savedParticipant, room, isHost);
+            runtime.admitEntrant(new QuizEntrantState(savedParticipant));
+
+            eventPublisher.publishEvent(new QuizEntrantJoinedEvent(
+                    roomId,
+                    savedParticipant.getId(),
+                    participantUserId,
+                    nickname,
+                    runtime.getEntrantCount()
+            ));
+
+            return returnSuccess(savedParticipant.getId(), form, isHost, status);
 
         } catch (Exception e) {
             logger.error("Join failed", e);
@@ -116,28 +132,29 @@ public class JoinQuizRoomUseCase {
         }
     }
 
-    private ActionResult<JoinQuizRoomResponse> returnSuccess(final QuizEntrant entrant, final QuizRoom room, final boolean isHost) {
-        final var quiz = room.getQuiz();
-
+    private ActionResult<JoinQuizRoomResponse> returnSuccess(final Long entrantId,
+                                                             final CompiledQuizForm form,
+                                                             final boolean isHost,
+                                                             final QuizRoomStatus status) {
         final var safeInfo = new QuizInfoResponse(
-                quiz.getId(),
-                quiz.getTitle(),
-                quiz.getQuestions() != null ? quiz.getQuestions().size() : 0
+                form.getFormId(),
+                form.getTitle(),
+                form.getQuestionCount()
         );
 
         final var response = new JoinQuizRoomResponse(
-                entrant.getId(),
+                entrantId,
                 safeInfo,
                 isHost,
-                room.getStatus().name()
+                status.name()
         );
         return ActionResult.success(response);
     }
 
-    private boolean isAccessAllowed(final QuizRoom room, final UUID participantUserId, final String token) {
-        if (room.getHostId().equals(participantUserId)) return true;
+    private boolean isAccessAllowed(final QuizRoomRuntime runtime, final UUID participantUserId, final String token) {
+        if (runtime.getHostId().equals(participantUserId)) return true;
         if (token != null && !token.isBlank()) {
-            return soulboundTokenService.validateSoulboundToken(token, participantUserId, room.getId());
+            return soulboundTokenService.validateSoulboundToken(token, participantUserId, runtime.getRoomId());
         }
         return false;
     }
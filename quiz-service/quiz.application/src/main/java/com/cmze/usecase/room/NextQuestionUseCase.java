@@ -4,17 +4,21 @@ import com.cmze.entity.QuizRoom;
 import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizRoomRepository;
 import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
+import com.cmze.spi.helpers.runtime.QuizRoomTimer;
 import com.cmze.usecase.UseCase;
 import com.cmze.ws.event.QuizNewQuestionEvent;
 import com.cmze.ws.event.QuizRoomClosedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.UUID;
@@ -24,13 +28,21 @@ public class NextQuestionUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(NextQuestionUseCase.class);
 
+    private static final Duration TIMER_TOLERANCE = Duration.ofMillis(250);
+
     private final QuizRoomRepository quizRoomRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
+    private final QuizRoomTimer quizRoomTimer;
 
     public NextQuestionUseCase(final QuizRoomRepository quizRoomRepository,
-                               final ApplicationEventPublisher eventPublisher) {
+                               final ApplicationEventPublisher eventPublisher,
+                               final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry,
+                               final QuizRoomTimer quizRoomTimer) {
         this.quizRoomRepository = quizRoomRepository;
         this.eventPublisher = eventPublisher;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
+        this.quizRoomTimer = quizRoomTimer;
     }
 
     @Transactional
@@ -53,6 +65,9 @@ public class NextQuestionUseCase {
 
             return nextQuestionInternal(room);
 
+        } catch (OptimisticLockingFailureException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "Room phase changed concurrently"));
         } catch (Exception e) {
             logger.error("Failed to proceed to next question", e);
             TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
@@ -61,15 +76,26 @@ public class NextQuestionUseCase {
     }
 
     @Transactional
-    public void executeSystem(final QuizRoom room) {
+    public void executeSystem(final UUID roomId) {
         try {
-            final var freshRoom = quizRoomRepository.findByIdWithFullQuizStructure(room.getId()).orElseThrow();
+            final var freshRoom = quizRoomRepository.findByIdWithFullQuizStructure(roomId).orElseThrow();
+
+            if (freshRoom.getStatus() != QuizRoomStatus.QUESTION_FINISHED) {
+                return;
+            }
 
-            if (freshRoom.getStatus() == QuizRoomStatus.QUESTION_FINISHED) {
-                nextQuestionInternal(freshRoom);
+            final var deadline = freshRoom.getCurrentQuestionEndTime();
+            if (deadline != null && deadline.isAfter(LocalDateTime.now().plus(TIMER_TOLERANCE))) {
+                logger.debug("Ignoring early timer for room {}: phase ends at {}", roomId, deadline);
+                return;
             }
+
+            nextQuestionInternal(freshRoom);
+        } catch (OptimisticLockingFailureException e) {
+            logger.info("Quiz room {} was already advanced by another instance", roomId);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
         } catch (Exception e) {
-            logger.error("System failed to start next question", e);
+            logger.error("System failed to start next question in room {}", roomId, e);
         }
     }
 
@@ -84,7 +110,9 @@ public class NextQuestionUseCase {
             room.setCurrentQuestionIndex(nextIndex);
             room.setCurrentQuestionEndTime(null);
 
-            quizRoomRepository.save(room);
+            quizRoomRepository.saveAndFlush(room);
+            quizRoomRuntimeRegistry.evict(room.getId());
+            quizRoomTimer.cancel(room.getId());
 
             eventPublisher.publishEvent(new QuizRoomClosedEvent(room.getId(), new ArrayList<>()));
 
@@ -100,7 +128,9 @@ public class NextQuestionUseCase {
         room.setCurrentQuestionStartTime(now);
         room.setCurrentQuestionEndTime(now.plusSeconds(timeLimit));
 
-        quizRoomRepository.save(room);
+        quizRoomRepository.saveAndFlush(room);
+        quizRoomRuntimeRegistry.attach(room);
+        quizRoomTimer.schedule(room.getId(), room.getCurrentQuestionEndTime());
         logger.info("Starting Question {} for room {}", nextIndex, room.getId());
 
         eventPublisher.publishEvent(new QuizNewQuestionEvent(
@@ -3,6 +3,8 @@ package com.cmze.usecase.room;
 import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizRoomRepository;
 import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
+import com.cmze.spi.helpers.runtime.QuizRoomTimer;
 import com.cmze.usecase.UseCase;
 import com.cmze.ws.event.QuizNewQuestionEvent;
 import com.cmze.ws.event.QuizStartedEvent;
@@ -24,11 +26,17 @@ public class StartQuizUseCase {
 
     private final QuizRoomRepository quizRoomRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
+    private final QuizRoomTimer quizRoomTimer;
 
     public StartQuizUseCase(final QuizRoomRepository quizRoomRepository,
-                            final ApplicationEventPublisher eventPublisher) {
+                            final ApplicationEventPublisher eventPublisher,
+                            final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry,
+                            final QuizRoomTimer quizRoomTimer) {
         this.quizRoomRepository = quizRoomRepository;
         this.eventPublisher = eventPublisher;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
+        this.quizRoomTimer = quizRoomTimer;
     }
 
     @Transactional
@@ -71,6 +79,8 @@ public class StartQuizUseCase {
             room.setCurrentQuestionEndTime(now.plusSeconds(timeLimit));
 
             quizRoomRepository.save(room);
+            quizRoomRuntimeRegistry.attach(room);
+            quizRoomTimer.schedule(roomId, room.getCurrentQuestionEndTime());
             logger.info("Quiz {} started by host {}. Question 0 active.", roomId, hostId);
 
             eventPublisher.publishEvent(new QuizStartedEvent(roomId));
@@ -1,25 +1,27 @@
 package com.cmze.usecase.room;
 
-import com.cmze.entity.QuizAnswer;
-import com.cmze.entity.QuizRoom;
-import com.cmze.enums.QuizRoomStatus;
-import com.cmze.repository.QuizAnswerRepository;
 import com.cmze.repository.QuizEntrantRepository;
 import com.cmze.repository.QuizRoomRepository;
 import com.cmze.request.SubmitQuizAnswerRequest;
 import com.cmze.response.SubmitQuizAnswerResponse;
 import com.cmze.shared.ActionResult;
 import com.cmze.spi.helpers.room.QuizScoringCalculator;
+import com.cmze.spi.helpers.runtime.AnswerVerdict;
+import com.cmze.spi.helpers.runtime.PendingQuizAnswer;
+import com.cmze.spi.helpers.runtime.QuizAnswerBuffer;
+import com.cmze.spi.helpers.runtime.QuizEntrantState;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntime;
+import com.cmze.spi.helpers.runtime.QuizRoomPresence;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
+import com.cmze.spi.helpers.runtime.QuizRoomTimer;
 import com.cmze.usecase.UseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 import java.util.UUID;
 
 @UseCase
@@ -29,120 +31,106 @@ public class SubmitQuizAnswerUseCase {
 
     private final QuizRoomRepository quizRoomRepository;
     private final QuizEntrantRepository quizEntrantRepository;
-    private final QuizAnswerRepository quizAnswerRepository;
     private final QuizScoringCalculator scoringStrategy;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
+    private final QuizRoomTimer quizRoomTimer;
+    private final QuizAnswerBuffer quizAnswerBuffer;
+    private final QuizRoomPresence quizRoomPresence;
 
     private static final int AUTO_FINISH_DELAY_SECONDS = 5;
 
     public SubmitQuizAnswerUseCase(final QuizRoomRepository quizRoomRepository,
                                    final QuizEntrantRepository quizEntrantRepository,
-                                   final QuizAnswerRepository quizAnswerRepository,
-                                   final QuizScoringCalculator scoringStrategy) {
+                                   final QuizScoringCalculator scoringStrategy,
+                                   final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry,
+                                   final QuizRoomTimer quizRoomTimer,
+                                   final QuizAnswerBuffer quizAnswerBuffer,
+                                   final QuizRoomPresence quizRoomPresence) {
         this.quizRoomRepository = quizRoomRepository;
         this.quizEntrantRepository = quizEntrantRepository;
-        this.quizAnswerRepository = quizAnswerRepository;
         this.scoringStrategy = scoringStrategy;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
+        this.quizRoomTimer = quizRoomTimer;
+        this.quizAnswerBuffer = quizAnswerBuffer;
+        this.quizRoomPresence = quizRoomPresence;
     }
 
-    @Transactional
     public ActionResult<SubmitQuizAnswerResponse> execute(final UUID roomId, final UUID userId, final SubmitQuizAnswerRequest request) {
         try {
-            final var roomOpt = quizRoomRepository.findByIdWithFullQuizStructure(roomId);
+            final var runtimeOpt = quizRoomRuntimeRegistry.find(roomId);
 
-            if (roomOpt.isEmpty()) {
+            if (runtimeOpt.isEmpty()) {
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "Room not found"));
             }
-            final var room = roomOpt.get();
+            final var runtime = runtimeOpt.get();
 
-            if (room.getStatus() != QuizRoomStatus.QUESTION_ACTIVE) {
-                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
-                        HttpStatus.CONFLICT, "Question is not active. Too late or too early."
-                ));
-            }
-
-            final int currentIndex = room.getCurrentQuestionIndex();
-            final var questions = room.getQuiz().getQuestions();
+            final var verdict = runtime.evaluate(
+                    request.getQuestionId(),
+                    request.getSelectedOptionId(),
+                    LocalDateTime.now()
+            );
 
-            if (currentIndex < 0 || currentIndex >= questions.size()) {
-                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
-                        HttpStatus.INTERNAL_SERVER_ERROR, "Invalid question index state"
-                ));
+            if (!verdict.isAccepted()) {
+                return ActionResult.failure(toProblem(verdict.outcome()));
             }
 
-            final var currentQuestion = questions.get(currentIndex);
+            final int currentIndex = verdict.questionIndex();
+            final long elapsedMs = verdict.elapsedMs();
 
-            if (!currentQuestion.getId().equals(request.getQuestionId())) {
-                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
-                        HttpStatus.BAD_REQUEST, "Sync error: answering wrong question ID."
-                ));
-            }
-
-            final var now = LocalDateTime.now();
-            final long elapsedMs = ChronoUnit.MILLIS.between(room.getCurrentQuestionStartTime(), now);
-            final long limitMs = room.getTimePerQuestion() * 1000L;
+            final var entrantOpt = resolveEntrant(runtime, userId);
 
-            if (elapsedMs > (limitMs + 2000)) {
-                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
-                        HttpStatus.GONE, "Time is up!"
-                ));
+            if (entrantOpt.isEmpty()) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, "You are not in this room"));
             }
+            final var entrant = entrantOpt.get();
 
-            if (quizAnswerRepository.existsByUserIdAndRoomIdAndQuestionIndex(userId, roomId, currentIndex)) {
+            if (!runtime.markAnswered(currentIndex, entrant.getSlot())) {
                 return ActionResult.failure(ProblemDetail.forStatusAndDetail(
                         HttpStatus.CONFLICT, "You have already submitted an answer for this question."
                 ));
             }
 
-            final var selectedOption = currentQuestion.getOptions().stream()
-                    .filter(o -> o.getId().equals(request.getSelectedOptionId()))
-                    .findFirst()
-                    .orElse(null);
-
-            if (selectedOption == null) {
-                return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Invalid option ID"));
-            }
-
-            final boolean isCorrect = selectedOption.isCorrect();
+            final boolean isCorrect = verdict.correct();
             int pointsAwarded = 0;
-
-            if (isCorrect) {
-                pointsAwarded = scoringStrategy.calculateScore(
-                        currentQuestion.getPoints(),
-                        room.getTimePerQuestion(),
-                        elapsedMs
-                );
-            }
-
-            final var entrantOpt = quizEntrantRepository.findByQuizRoom_IdAndUserId(roomId, userId);
-
-            if (entrantOpt.isEmpty()) {
-                return ActionResult.failure(ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, "You are not in this room"));
+            final var previousScore = entrant.currentScore();
+            final QuizEntrantState.Score score;
+
+            // the answer only counts once it is in the buffer; until then a failure must leave the player free to retry
+            try {
+                if (isCorrect) {
+                    pointsAwarded = scoringStrategy.calculateScore(
+                            verdict.maxPoints(),
+                            runtime.getTimePerQuestion(),
+                            elapsedMs
+                    );
+                }
+
+                score = entrant.recordAnswer(isCorrect, pointsAwarded);
+
+                quizAnswerBuffer.enqueue(new PendingQuizAnswer(
+                        roomId,
+                        entrant.getEntrantId(),
+                        verdict.questionId(),
+                        currentIndex,
+                        verdict.selectedOptionId(),
+                        elapsedMs,
+                        isCorrect,
+                        pointsAwarded,
+                        score
+                ));
+            } catch (RuntimeException e) {
+                entrant.restore(previousScore);
+                runtime.unmarkAnswered(currentIndex, entrant.getSlot());
+                throw e;
             }
-            final var entrant = entrantOpt.get();
 
-            entrant.setTotalScore(entrant.getTotalScore() + pointsAwarded);
+            runtime.countOptionPick(verdict.optionSlot());
 
-            if (isCorrect) {
-                entrant.setComboStreak(entrant.getComboStreak() + 1);
-                entrant.setLastAnswerCorrect(true);
-            } else {
-                entrant.setComboStreak(0);
-                entrant.setLastAnswerCorrect(false);
+            if (pointsAwarded > 0) {
+                runtime.updateStanding(entrant, score.totalScore());
             }
 
-            final var answer = new QuizAnswer();
-            answer.setEntrant(entrant);
-            answer.setQuestionId(currentQuestion.getId());
-            answer.setQuestionIndex(currentIndex);
-            answer.setSelectedOptionId(selectedOption.getId());
-            answer.setTimeTakenMs(elapsedMs);
-            answer.setCorrect(isCorrect);
-            answer.setPointsAwarded(pointsAwarded);
-
-            quizAnswerRepository.save(answer);
-            quizEntrantRepository.save(entrant);
-
-            checkAndScheduleAutoFinish(room, currentIndex);
+            checkAndScheduleAutoFinish(runtime, currentIndex, entrant.getSlot());
 
             logger.info("User {} answered Q{} in {}ms. Correct: {}, Points: {}",
                     userId, currentIndex, elapsedMs, isCorrect, pointsAwarded);
@@ -150,15 +138,14 @@ public class SubmitQuizAnswerUseCase {
             final var response = new SubmitQuizAnswerResponse(
                     isCorrect,
                     pointsAwarded,
-                    entrant.getTotalScore(),
-                    entrant.getComboStreak()
+                    score.totalScore(),
+                    score.comboStreak()
             );
 
             return ActionResult.success(response);
 
         } catch (Exception e) {
             logger.error("Submit answer failed for room {}: {}", roomId, e.getMessage(), e);
-            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
 
             return ActionResult.failure(ProblemDetail.forStatusAndDetail(
                     HttpStatus.INTERNAL_SERVER_ERROR, "Error processing answer"
@@ -166,23 +153,43 @@ public class SubmitQuizAnswerUseCase {
         }
     }
 
-    private void checkAndScheduleAutoFinish(final QuizRoom room, int questionIndex) {
-        long totalEntrants = quizEntrantRepository.countByQuizRoom_Id(room.getId());
-        long activePlayersCount = Math.max(0, totalEntrants - 1);
+    private Optional<QuizEntrantState> resolveEntrant(final QuizRoomRuntime runtime, final UUID userId) {
+        final var cached = runtime.findEntrant(userId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        return quizEntrantRepository.findByQuizRoom_IdAndUserId(runtime.getRoomId(), userId)
+                .map(entrant -> runtime.registerEntrant(new QuizEntrantState(entrant)));
+    }
 
-        if (activePlayersCount <= 0) return;
+    private ProblemDetail toProblem(final AnswerVerdict.Outcome outcome) {
+        return switch (outcome) {
+            case QUESTION_NOT_ACTIVE -> ProblemDetail.forStatusAndDetail(
+                    HttpStatus.CONFLICT, "Question is not active. Too late or too early.");
+            case INVALID_STATE -> ProblemDetail.forStatusAndDetail(
+                    HttpStatus.INTERNAL_SERVER_ERROR, "Invalid question index state");
+            case WRONG_QUESTION -> ProblemDetail.forStatusAndDetail(
+                    HttpStatus.BAD_REQUEST, "Sync error: answering wrong question ID.");
+            case TIME_UP -> ProblemDetail.forStatusAndDetail(
+                    HttpStatus.GONE, "Time is up!");
+            case INVALID_OPTION -> ProblemDetail.forStatusAndDetail(
+                    HttpStatus.BAD_REQUEST, "Invalid option ID");
+            case ACCEPTED -> throw new IllegalStateException("Accepted answer has no problem detail");
+        };
+    }
 
-        long submittedAnswersCount = quizAnswerRepository.countByRoomIdAndQuestionIndex(room.getId(), questionIndex);
+    private void checkAndScheduleAutoFinish(final QuizRoomRuntime runtime, final int questionIndex, final int slot) {
+        final var roomId = runtime.getRoomId();
 
-        if (submittedAnswersCount >= activePlayersCount) {
-            logger.info("All players answered in room {}! Shortening timer.", room.getId());
+        if (runtime.allAnswered(questionIndex, slot, () -> quizRoomPresence.connectedUsers(roomId))) {
+            logger.info("All players answered in room {}! Shortening timer.", roomId);
 
-            final var now = LocalDateTime.now();
-            final var newEndTime = now.plusSeconds(AUTO_FINISH_DELAY_SECONDS);
+            final var newEndTime = LocalDateTime.now().plusSeconds(AUTO_FINISH_DELAY_SECONDS);
 
-            if (newEndTime.isBefore(room.getCurrentQuestionEndTime())) {
-                room.setCurrentQuestionEndTime(newEndTime);
-                quizRoomRepository.save(room);
+            if (runtime.shortenQuestionEnd(questionIndex, newEndTime)) {
+                quizRoomRepository.shortenCurrentQuestionEndTime(roomId, questionIndex, newEndTime);
+                quizRoomTimer.schedule(roomId, newEndTime);
             }
         }
     }
@@ -0,0 +1,19 @@
+package com.cmze.ws.event;
+
+import com.cmze.spi.helpers.room.LeaderboardEntryDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class QuizLeaderboardDeltaEvent {
+    private final UUID roomId;
+    private final String epoch;
+    private final long sequence;
+    private final int totalPlayers;
+    private final List<LeaderboardEntryDto> topPlayers;
+    private final List<LeaderboardEntryDto> changedEntries;
+}
@@ -3,6 +3,7 @@ package com.cmze.ws.event;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Getter
@@ -11,4 +12,5 @@ public class QuizQuestionFinishedEvent {
     private final UUID roomId;
     private final Long questionId;
     private final Long correctOptionId;
+    private final Map<Long, Long> answerStats;
 }
@@ -0,0 +1,121 @@
+package com.cmze.spi.helpers.runtime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntBinaryOperator;
+
+import static com.cmze.spi.helpers.runtime.QuizRuntimeFixtures.entrant;
+import static com.cmze.spi.helpers.runtime.QuizRuntimeFixtures.runtime;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Duplicate-answer detection with the per-question slot bitmap against the previous per-entrant
+ * "last answered question" check. Run with {@code mvn test -Dbenchmarks=true -Dtest=QuizRoomRuntimeAnswerBenchmark}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class QuizRoomRuntimeAnswerBenchmark {
+
+    private static final int ENTRANTS = 1000;
+    private static final int QUESTIONS = 3;
+    private static final int RETRIES = 2;
+    private static final int THREADS = 8;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Test
+    void compareBitmapWithPerEntrantCheck() throws Exception {
+        final double bitmapNs = measure(() -> {
+            final var runtime = runtime(ENTRANTS, 0);
+            final var slots = new int[ENTRANTS];
+            for (int i = 0; i < ENTRANTS; i++) {
+                slots[i] = runtime.registerEntrant(entrant(i + 1)).getSlot();
+            }
+            return (question, entrant) -> runtime.markAnswered(question, slots[entrant]) ? 1 : 0;
+        });
+
+        final double perEntrantNs = measure(() -> {
+            final var entrants = new LastAnsweredEntrant[ENTRANTS];
+            final var answered = new AtomicIntegerArray(QUESTIONS);
+            for (int i = 0; i < ENTRANTS; i++) {
+                entrants[i] = new LastAnsweredEntrant();
+            }
+            return (question, entrant) -> {
+                if (!entrants[entrant].record(question)) {
+                    return 0;
+                }
+                answered.incrementAndGet(question);
+                return 1;
+            };
+        });
+
+        System.out.printf("markAnswered, %d entrants x %d questions x %d attempts on %d threads%n",
+                ENTRANTS, QUESTIONS, RETRIES, THREADS);
+        System.out.printf("  slot bitmap:             %8.1f ns/op%n", bitmapNs);
+        System.out.printf("  per-entrant last index:  %8.1f ns/op%n", perEntrantNs);
+    }
+
+    private double measure(final Callable<IntBinaryOperator> setup) throws Exception {
+        final var pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                runRound(pool, setup.call());
+            }
+            long elapsed = 0;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                elapsed += runRound(pool, setup.call());
+            }
+            return (double) elapsed / MEASURED_ROUNDS / (ENTRANTS * QUESTIONS * RETRIES);
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private long runRound(final ExecutorService pool, final IntBinaryOperator answer) throws Exception {
+        final List<Callable<Integer>> tasks = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            tasks.add(() -> {
+                int accepted = 0;
+                for (int question = 0; question < QUESTIONS; question++) {
+                    for (int attempt = 0; attempt < RETRIES; attempt++) {
+                        for (int entrant = thread; entrant < ENTRANTS; entrant += THREADS) {
+                            accepted += answer.applyAsInt(question, entrant);
+                        }
+                    }
+                }
+                return accepted;
+            });
+        }
+
+        final long start = System.nanoTime();
+        int accepted = 0;
+        for (final var future : pool.invokeAll(tasks)) {
+            accepted += future.get();
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        assertThat(accepted).isEqualTo(ENTRANTS * QUESTIONS);
+        return elapsed;
+    }
+
+    private static final class LastAnsweredEntrant {
+        private int lastAnsweredQuestionIndex = -1;
+
+        synchronized boolean record(final int questionIndex) {
+            if (questionIndex <= lastAnsweredQuestionIndex) {
+                return false;
+            }
+            lastAnsweredQuestionIndex = questionIndex;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.cmze.spi.helpers.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.cmze.spi.helpers.runtime.QuizRuntimeFixtures.entrant;
+import static com.cmze.spi.helpers.runtime.QuizRuntimeFixtures.runtime;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizRoomRuntimeAnswerTest {
+
+    @Test
+    void markAnsweredAcceptsTheFirstAnswerOnly() {
+        final var runtime = runtime(10, 0);
+        final var state = runtime.registerEntrant(entrant(1));
+
+        assertThat(runtime.markAnswered(0, state.getSlot())).isTrue();
+        assertThat(runtime.markAnswered(0, state.getSlot())).isFalse();
+        assertThat(runtime.getAnsweredCount(0)).isEqualTo(1);
+    }
+
+    @Test
+    void answersAreTrackedPerQuestion() {
+        final var runtime = runtime(10, 0);
+        final var state = runtime.registerEntrant(entrant(1));
+
+        runtime.markAnswered(0, state.getSlot());
+
+        assertThat(runtime.hasAnswered(0, state.getSlot())).isTrue();
+        assertThat(runtime.hasAnswered(1, state.getSlot())).isFalse();
+        assertThat(runtime.markAnswered(1, state.getSlot())).isTrue();
+        assertThat(runtime.getAnsweredCount(0)).isEqualTo(1);
+        assertThat(runtime.getAnsweredCount(1)).isEqualTo(1);
+        assertThat(runtime.getAnsweredCount(2)).isZero();
+    }
+
+    @Test
+    void slotsAcrossWordBoundariesDoNotCollide() {
+        final var runtime = runtime(200, 0);
+        final var states = new ArrayList<QuizEntrantState>();
+        for (int i = 0; i < 130; i++) {
+            states.add(runtime.registerEntrant(entrant(i + 1)));
+        }
+
+        runtime.markAnswered(0, states.get(63).getSlot());
+        runtime.markAnswered(0, states.get(64).getSlot());
+        runtime.markAnswered(0, states.get(128).getSlot());
+
+        assertThat(runtime.hasAnswered(0, states.get(62).getSlot())).isFalse();
+        assertThat(runtime.hasAnswered(0, states.get(63).getSlot())).isTrue();
+        assertThat(runtime.hasAnswered(0, states.get(64).getSlot())).isTrue();
+        assertThat(runtime.hasAnswered(0, states.get(65).getSlot())).isFalse();
+        assertThat(runtime.hasAnswered(0, states.get(128).getSlot())).isTrue();
+        assertThat(runtime.getAnsweredCount(0)).isEqualTo(3);
+    }
+
+    @Test
+    void bitmapCoversEntrantsLoadedPastTheSeatLimit() {
+        final var runtime = runtime(2, 100);
+        final var states = new ArrayList<QuizEntrantState>();
+        for (int i = 0; i < 100; i++) {
+            states.add(runtime.registerEntrant(entrant(i + 1)));
+        }
+
+        for (final var state : states) {
+            assertThat(runtime.markAnswered(0, state.getSlot())).isTrue();
+        }
+        assertThat(runtime.getAnsweredCount(0)).isEqualTo(100);
+    }
+
+    @Test
+    void entrantsRegisteredPastTheBitmapStillAnswerOnce() {
+        final var runtime = runtime(1, 0);
+        final var states = new ArrayList<QuizEntrantState>();
+        for (int i = 0; i < 300; i++) {
+            states.add(runtime.registerEntrant(entrant(i + 1)));
+        }
+        final var last = states.get(states.size() - 1);
+
+        assertThat(runtime.markAnswered(0, last.getSlot())).isTrue();
+        assertThat(runtime.markAnswered(0, last.getSlot())).isFalse();
+        assertThat(runtime.hasAnswered(0, last.getSlot())).isTrue();
+        assertThat(runtime.hasAnswered(1, last.getSlot())).isFalse();
+        assertThat(runtime.getAnsweredCount(0)).isEqualTo(1);
+    }
+
+    @Test
+    void unmarkedAnswersCanBeRetried() {
+        final var runtime = runtime(1, 0);
+        final var states = new ArrayList<QuizEntrantState>();
+        for (int i = 0; i < 100; i++) {
+            states.add(runtime.registerEntrant(entrant(i + 1)));
+        }
+        final var inBitmap = states.get(0);
+        final var pastBitmap = states.get(99);
+
+        runtime.markAnswered(0, inBitmap.getSlot());
+        runtime.markAnswered(0, pastBitmap.getSlot());
+        runtime.unmarkAnswered(0, inBitmap.getSlot());
+        runtime.unmarkAnswered(0, pastBitmap.getSlot());
+        runtime.unmarkAnswered(0, pastBitmap.getSlot());
+
+        assertThat(runtime.getAnsweredCount(0)).isZero();
+        assertThat(runtime.hasAnswered(0, inBitmap.getSlot())).isFalse();
+        assertThat(runtime.markAnswered(0, inBitmap.getSlot())).isTrue();
+        assertThat(runtime.markAnswered(0, pastBitmap.getSlot())).isTrue();
+        assertThat(runtime.getAnsweredCount(0)).isEqualTo(2);
+    }
+
+    @Test
+    void restoredScoreDropsTheFailedAnswer() {
+        final var state = entrant(1);
+        final var before = state.currentScore();
+
+        state.recordAnswer(true, 900);
+        state.restore(before);
+
+        assertThat(state.currentScore()).isEqualTo(before);
+    }
+
+    @Test
+    void hasAnsweredIsFalseForUnassignedSlots() {
+        final var runtime = runtime(10, 0);
+
+        assertThat(runtime.hasAnswered(0, -1)).isFalse();
+        assertThat(runtime.getAnsweredCount(0)).isZero();
+    }
+
+    @Test
+    void concurrentRetriesCountEachEntrantOnce() throws InterruptedException {
+        final int entrants = 500;
+        final int attemptsPerEntrant = 4;
+        final var runtime = runtime(entrants, 0);
+        final var states = new ArrayList<QuizEntrantState>();
+        for (int i = 0; i < entrants; i++) {
+            states.add(runtime.registerEntrant(entrant(i + 1)));
+        }
+
+        final var accepted = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var pool = Executors.newFixedThreadPool(16);
+        try {
+            for (int attempt = 0; attempt < attemptsPerEntrant; attempt++) {
+                for (final var state : states) {
+                    pool.execute(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        if (runtime.markAnswered(0, state.getSlot())) {
+                            accepted.incrementAndGet();
+                        }
+                    });
+                }
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(accepted.get()).isEqualTo(entrants);
+        assertThat(runtime.getAnsweredCount(0)).isEqualTo(entrants);
+        assertThat(states).allMatch(state -> runtime.hasAnswered(0, state.getSlot()));
+    }
+}
@@ -0,0 +1,144 @@
+package com.cmze.spi.helpers.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.cmze.spi.helpers.runtime.QuizRuntimeFixtures.entrant;
+import static com.cmze.spi.helpers.runtime.QuizRuntimeFixtures.runtime;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class QuizRoomRuntimeSeatTest {
+
+    private static final int JOINS = 1000;
+    private static final Duration JOIN_WINDOW = Duration.ofSeconds(5);
+
+    @Test
+    void thousandConcurrentJoinsNeverOverfillTheRoom() {
+        final int seatLimit = 250;
+        final var runtime = runtime(seatLimit, 0);
+        final var admittedNicknames = ConcurrentHashMap.<String>newKeySet();
+        final var full = new AtomicInteger();
+        final var taken = new AtomicInteger();
+
+        assertTimeoutPreemptively(JOIN_WINDOW, () -> runConcurrently(JOINS, i -> {
+            // every tenth player picks a nickname someone else also uses; every twentieth save fails
+            final var nickname = "player-" + (i % 10 == 0 ? i / 10 : i);
+            final var outcome = join(runtime, nickname, i % 20 == 0);
+            switch (outcome) {
+                case ADMITTED -> assertThat(admittedNicknames.add(nickname)).isTrue();
+                case FULL -> full.incrementAndGet();
+                case NICKNAME_TAKEN -> taken.incrementAndGet();
+                case SAVE_FAILED -> {
+                }
+            }
+        }));
+
+        assertThat(runtime.getEntrantCount()).isEqualTo(seatLimit);
+        assertThat(admittedNicknames).hasSize(seatLimit);
+        assertThat(full.get()).isPositive();
+        assertThat(runtime.reserveSeat()).isFalse();
+    }
+
+    @Test
+    void seatsFreedByFailedSavesAreReused() {
+        final int seatLimit = 10;
+        final var runtime = runtime(seatLimit, 0);
+
+        assertTimeoutPreemptively(JOIN_WINDOW, () -> runConcurrently(JOINS, i ->
+                join(runtime, "player-" + i, i % 2 == 0)));
+
+        assertThat(runtime.getEntrantCount()).isEqualTo(seatLimit);
+        assertThat(runtime.reserveSeat()).isFalse();
+    }
+
+    @Test
+    void aContestedNicknameIsReservedExactlyOnce() {
+        final var runtime = runtime(JOINS, 0);
+        final var reserved = new AtomicInteger();
+
+        assertTimeoutPreemptively(JOIN_WINDOW, () -> runConcurrently(JOINS, i -> {
+            if (runtime.reserveNickname("same-name")) {
+                reserved.incrementAndGet();
+            }
+        }));
+
+        assertThat(reserved.get()).isEqualTo(1);
+    }
+
+    @Test
+    void aReleasedNicknameCanBeTakenAgain() {
+        final var runtime = runtime(10, 0);
+
+        assertThat(runtime.reserveNickname("player")).isTrue();
+        assertThat(runtime.reserveNickname("player")).isFalse();
+
+        runtime.releaseNickname("player");
+
+        assertThat(runtime.reserveNickname("player")).isTrue();
+    }
+
+    private enum Outcome { ADMITTED, FULL, NICKNAME_TAKEN, SAVE_FAILED }
+
+    private static final AtomicLong ENTRANT_IDS = new AtomicLong();
+
+    // mirrors JoinQuizRoomUseCase: nickname, then seat, then the save that may roll both back
+    private static Outcome join(final QuizRoomRuntime runtime, final String nickname, final boolean saveFails) {
+        if (!runtime.reserveNickname(nickname)) {
+            return Outcome.NICKNAME_TAKEN;
+        }
+        if (!runtime.reserveSeat()) {
+            runtime.releaseNickname(nickname);
+            return Outcome.FULL;
+        }
+        if (saveFails) {
+            runtime.releaseSeat();
+            runtime.releaseNickname(nickname);
+            return Outcome.SAVE_FAILED;
+        }
+
+        final var state = entrant(ENTRANT_IDS.incrementAndGet());
+        assertThat(runtime.admitEntrant(state)).isSameAs(state);
+        return Outcome.ADMITTED;
+    }
+
+    private static void runConcurrently(final int tasks, final PlayerAction action) throws InterruptedException {
+        final ExecutorService pool = Executors.newFixedThreadPool(32);
+        final var start = new CountDownLatch(1);
+        final Set<Throwable> failures = ConcurrentHashMap.newKeySet();
+
+        try {
+            for (int i = 0; i < tasks; i++) {
+                final int player = i;
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        action.run(player);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(JOIN_WINDOW.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        }
+
+        assertThat(failures).isEmpty();
+    }
+
+    @FunctionalInterface
+    private interface PlayerAction {
+        void run(int player) throws Exception;
+    }
+}
@@ -0,0 +1,83 @@
+package com.cmze.spi.helpers.runtime;
+
+import com.cmze.entity.Question;
+import com.cmze.entity.QuizEntrant;
+import com.cmze.entity.QuizForm;
+import com.cmze.entity.QuizQuestionOption;
+import com.cmze.entity.QuizRoom;
+import com.cmze.enums.QuizRoomStatus;
+import com.cmze.spi.helpers.form.CompiledQuizForm;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+final class QuizRuntimeFixtures {
+
+    static final UUID HOST_ID = UUID.randomUUID();
+
+    private QuizRuntimeFixtures() {
+    }
+
+    static QuizRoom room(final Integer maxParticipants) {
+        final var room = new QuizRoom();
+        room.setId(UUID.randomUUID());
+        room.setHostId(HOST_ID);
+        room.setStatus(QuizRoomStatus.QUESTION_ACTIVE);
+        room.setMaxParticipants(maxParticipants);
+        room.setTimePerQuestion(30);
+        room.setCurrentQuestionIndex(0);
+        room.setCurrentQuestionStartTime(LocalDateTime.now());
+        room.setCurrentQuestionEndTime(LocalDateTime.now().plusSeconds(30));
+        room.setValidUntil(LocalDateTime.now().plusHours(1));
+        return room;
+    }
+
+    static CompiledQuizForm form(final int questionCount) {
+        final var form = new QuizForm();
+        form.setId(1L);
+        form.setTitle("Fixture quiz");
+        form.setCreatorId(HOST_ID);
+
+        final var questions = new ArrayList<Question>();
+        long optionId = 1;
+        for (int q = 0; q < questionCount; q++) {
+            final var question = new Question();
+            question.setId((long) q + 1);
+            question.setTitle("Question " + (q + 1));
+            question.setPoints(1000);
+            question.setQuizForm(form);
+
+            final var options = new ArrayList<QuizQuestionOption>();
+            for (int o = 0; o < 4; o++) {
+                final var option = new QuizQuestionOption();
+                option.setId(optionId++);
+                option.setText("Option " + (o + 1));
+                option.setCorrect(o == 0);
+                option.setQuestion(question);
+                options.add(option);
+            }
+            question.setOptions(options);
+            questions.add(question);
+        }
+        form.setQuestions(questions);
+
+        return CompiledQuizForm.compile(form);
+    }
+
+    static QuizRoomRuntime runtime(final Integer maxParticipants, final int loadedEntrants) {
+        return QuizRoomRuntime.compile(room(maxParticipants), form(3), loadedEntrants);
+    }
+
+    static QuizEntrantState entrant(final long entrantId) {
+        return entrant(entrantId, UUID.randomUUID());
+    }
+
+    static QuizEntrantState entrant(final long entrantId, final UUID userId) {
+        final var entrant = new QuizEntrant();
+        entrant.setId(entrantId);
+        entrant.setUserId(userId);
+        entrant.setNickname("player-" + entrantId);
+        return new QuizEntrantState(entrant);
+    }
+}
@@ -11,7 +11,10 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "quiz_answers")
+@Table(name = "quiz_answers",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_quiz_answer_entrant_question", columnNames = {"entrant_id", "question_index"})
+})
 public class QuizAnswer {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
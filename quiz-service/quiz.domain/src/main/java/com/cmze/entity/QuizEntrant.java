@@ -41,4 +41,7 @@ public class QuizEntrant {
 
     @Column(name = "last_answer_correct")
     private boolean lastAnswerCorrect = false;
+
+    @Column(name = "last_question_index", columnDefinition = "integer default -1")
+    private int lastQuestionIndex = -1;
 }
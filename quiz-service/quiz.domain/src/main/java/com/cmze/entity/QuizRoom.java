@@ -67,4 +67,14 @@ public class QuizRoom {
 
     @Column(name = "valid_until", nullable = false)
     private LocalDateTime validUntil;
+
+    // bumped only by QuizRoomRepository.incrementEntrantCount so entity saves never overwrite it
+    @Column(name = "entrant_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private int entrantCount;
+
+    // phase transitions can be attempted by the timers of several instances; only one may win
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
@@ -0,0 +1,6 @@
+package com.cmze.repository;
+
+public interface AnswerSelectionView {
+    Long getEntrantId();
+    Long getSelectedOptionId();
+}
@@ -11,5 +11,5 @@ public interface QuizEntrantRepository {
     Optional<QuizEntrant> findByQuizRoom_IdAndUserId(UUID roomId, UUID userId);
     long countByQuizRoom_Id(UUID roomId);
     QuizEntrant save(QuizEntrant quizEntrant);
-    List<QuizEntrant> findAllByQuizRoom_IdOrderByTotalScoreDesc(UUID roomId);
+    List<QuizEntrant> findAllByQuizRoom_IdOrderByTotalScoreDescIdAsc(UUID roomId);
 }
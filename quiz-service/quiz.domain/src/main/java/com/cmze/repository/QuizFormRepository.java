@@ -11,6 +11,7 @@ import java.util.UUID;
 public interface QuizFormRepository {
     QuizForm save(QuizForm quizForm);
     Optional<QuizForm> findById(Long formId);
+    Optional<QuizForm> findByIdWithQuestions(Long formId);
     Page<QuizForm> findAll(Specification<QuizForm> finalSpec, Pageable pageable);
     Page<QuizForm> findAllPublicAndOwnedByUser(UUID userId, Pageable pageable);
     Page<QuizForm> findByCreatorIdAndDeletedFalse(UUID creatorId, Pageable pageable);
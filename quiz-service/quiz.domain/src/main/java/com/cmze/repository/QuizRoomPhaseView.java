@@ -0,0 +1,9 @@
+package com.cmze.repository;
+
+import com.cmze.enums.QuizRoomStatus;
+
+public interface QuizRoomPhaseView {
+    QuizRoomStatus getStatus();
+    int getCurrentQuestionIndex();
+    int getEntrantCount();
+}
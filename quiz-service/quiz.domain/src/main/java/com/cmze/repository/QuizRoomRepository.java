@@ -13,10 +13,15 @@ import java.util.UUID;
 public interface QuizRoomRepository {
     boolean existsActiveRoomsForQuiz(Long quizFormId);
     Optional<QuizRoom> findById(UUID id);
+    QuizRoom getReferenceById(UUID id);
     Optional<QuizRoom> findByIdWithQuiz(UUID id);
     QuizRoom save(QuizRoom quizRoom);
+    QuizRoom saveAndFlush(QuizRoom quizRoom);
     Optional<QuizRoom> findByIdWithFullQuizStructure(UUID id);
-    List<QuizRoom> findRoomsWithExpiredTimer(LocalDateTime now);
+    Optional<QuizRoomPhaseView> findPhaseById(UUID id);
+    int incrementEntrantCount(UUID id);
+    List<QuizRoom> findRoomsWithRunningTimer();
+    int shortenCurrentQuestionEndTime(UUID id, int questionIndex, LocalDateTime endTime);
     List<QuizRoom> findAllExpiredActiveRooms(LocalDateTime now);
     Page<QuizRoom> findAllPublicActiveRooms(Pageable pageable);
     Page<QuizRoom> findByHostId(UUID hostId, Pageable pageable);
@@ -1,18 +1,24 @@
 package com.cmze.configuration;
 
+import com.cmze.internal.ws.StompOutboundMonitor;
+import com.cmze.internal.ws.StompPayloadEncoder;
 import com.cmze.security.auth.JwtTokenReader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,7 +26,9 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Configuration
@@ -29,15 +37,49 @@ import java.util.stream.Collectors;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtTokenReader jwtTokenReader;
+    private final StompPayloadEncoder payloadEncoder;
+    private final StompOutboundMonitor outboundMonitor;
+    private final TaskScheduler messageBrokerTaskScheduler;
 
-    public WebSocketConfig(@Lazy final JwtTokenReader jwtTokenReader) {
+    private final long heartbeatMs;
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeKb;
+    private final int messageSizeLimitKb;
+    private final int outboundCorePoolSize;
+    private final int outboundMaxPoolSize;
+    private final int outboundQueueCapacity;
+
+    public WebSocketConfig(@Lazy final JwtTokenReader jwtTokenReader,
+                           final StompPayloadEncoder payloadEncoder,
+                           final StompOutboundMonitor outboundMonitor,
+                           @Lazy @Qualifier("messageBrokerTaskScheduler") final TaskScheduler messageBrokerTaskScheduler,
+                           @Value("${app.quiz.ws.heartbeat-ms:10000}") final long heartbeatMs,
+                           @Value("${app.quiz.ws.transport.send-time-limit-ms:5000}") final int sendTimeLimitMs,
+                           @Value("${app.quiz.ws.transport.send-buffer-size-kb:256}") final int sendBufferSizeKb,
+                           @Value("${app.quiz.ws.transport.message-size-limit-kb:64}") final int messageSizeLimitKb,
+                           @Value("${app.quiz.ws.transport.outbound.core-pool-size:8}") final int outboundCorePoolSize,
+                           @Value("${app.quiz.ws.transport.outbound.max-pool-size:32}") final int outboundMaxPoolSize,
+                           @Value("${app.quiz.ws.transport.outbound.queue-capacity:100000}") final int outboundQueueCapacity) {
         this.jwtTokenReader = jwtTokenReader;
+        this.payloadEncoder = payloadEncoder;
+        this.outboundMonitor = outboundMonitor;
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+        this.heartbeatMs = heartbeatMs;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeKb = sendBufferSizeKb;
+        this.messageSizeLimitKb = messageSizeLimitKb;
+        this.outboundCorePoolSize = outboundCorePoolSize;
+        this.outboundMaxPoolSize = outboundMaxPoolSize;
+        this.outboundQueueCapacity = outboundQueueCapacity;
     }
 
     @Override
     public void configureMessageBroker(final MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic", "/queue");
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         registry.setApplicationDestinationPrefixes("/app");
+        registry.configureBrokerChannel().interceptors(payloadEncoder.brokerChannelInterceptor());
     }
 
     @Override
@@ -71,15 +113,41 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                             final var authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
 
                             accessor.setUser(authentication);
+                            payloadEncoder.negotiate(accessor);
                         } else {
                             throw new AccessDeniedException("Invalid JWT Token");
                         }
                     } else {
                         throw new AccessDeniedException("Missing Authorization Header");
                     }
+                } else if (accessor != null && StompCommand.SEND.equals(accessor.getCommand()) && accessor.getUser() == null) {
+                    throw new AccessDeniedException("Unauthenticated STOMP session");
                 }
                 return message;
             }
         });
     }
+
+    @Override
+    public void configureWebSocketTransport(final WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeKb * 1024)
+                .setMessageSizeLimit(messageSizeLimitKb * 1024)
+                .addDecoratorFactory(outboundMonitor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(final ChannelRegistration registration) {
+        registration.interceptors(payloadEncoder, outboundMonitor)
+                .taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public boolean configureMessageConverters(final List<MessageConverter> messageConverters) {
+        messageConverters.add(payloadEncoder.messageConverter());
+        return true;
+    }
 }
@@ -1,10 +1,12 @@
 package com.cmze.external.jpa;
 
 import com.cmze.entity.QuizAnswer;
+import com.cmze.repository.AnswerSelectionView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface QuizAnswerJpaRepository extends JpaRepository<QuizAnswer, Long> {
@@ -21,4 +23,8 @@ public interface QuizAnswerJpaRepository extends JpaRepository<QuizAnswer, Long>
     @Query("SELECT COUNT(a) FROM QuizAnswer a " +
             "WHERE a.entrant.quizRoom.id = :roomId AND a.questionIndex = :questionIndex")
     long countByRoomIdAndQuestionIndex(@Param("roomId") UUID roomId, @Param("questionIndex") int questionIndex);
+
+    @Query("SELECT a.entrant.id AS entrantId, a.selectedOptionId AS selectedOptionId FROM QuizAnswer a " +
+            "WHERE a.entrant.quizRoom.id = :roomId AND a.questionIndex = :questionIndex")
+    List<AnswerSelectionView> findSelectionsByRoomIdAndQuestionIndex(@Param("roomId") UUID roomId, @Param("questionIndex") int questionIndex);
 }
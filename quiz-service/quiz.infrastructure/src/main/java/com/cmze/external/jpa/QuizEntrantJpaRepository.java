@@ -14,5 +14,5 @@ public interface QuizEntrantJpaRepository extends JpaRepository<QuizEntrant, Lon
 
     long countByQuizRoom_Id(UUID roomId);
 
-    List<QuizEntrant> findAllByQuizRoom_IdOrderByTotalScoreDesc(UUID roomId);
+    List<QuizEntrant> findAllByQuizRoom_IdOrderByTotalScoreDescIdAsc(UUID roomId);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface QuizFormJpaRepository extends JpaRepository<QuizForm, Long>, JpaSpecificationExecutor<QuizForm> {
@@ -26,4 +27,10 @@ public interface QuizFormJpaRepository extends JpaRepository<QuizForm, Long>, Jp
     Page<QuizForm> findAllPublicAndOwnedByUser(@Param("userId") UUID userId, Pageable pageable);
 
     Page<QuizForm> findByCreatorIdAndDeletedFalse(UUID creatorId, Pageable pageable);
+
+    @Query("SELECT q FROM QuizForm q " +
+            "LEFT JOIN FETCH q.questions qs " +
+            "LEFT JOIN FETCH qs.options " +
+            "WHERE q.id = :id")
+    Optional<QuizForm> findByIdWithQuestions(@Param("id") Long id);
 }
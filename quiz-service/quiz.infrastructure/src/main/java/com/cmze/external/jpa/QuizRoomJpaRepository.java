@@ -2,12 +2,15 @@ package com.cmze.external.jpa;
 
 import com.cmze.entity.QuizForm;
 import com.cmze.entity.QuizRoom;
+import com.cmze.repository.QuizRoomPhaseView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,13 +37,31 @@ public interface QuizRoomJpaRepository extends JpaRepository<QuizRoom, UUID>, Jp
             "WHERE r.id = :id")
     Optional<QuizRoom> findByIdWithFullQuizStructure(@Param("id") UUID id);
 
+    @Query("SELECT r.status AS status, r.currentQuestionIndex AS currentQuestionIndex, " +
+            "r.entrantCount AS entrantCount " +
+            "FROM QuizRoom r WHERE r.id = :id")
+    Optional<QuizRoomPhaseView> findPhaseById(@Param("id") UUID id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE QuizRoom r SET r.entrantCount = r.entrantCount + 1 WHERE r.id = :id")
+    int incrementEntrantCount(@Param("id") UUID id);
+
     @Query("SELECT r FROM QuizRoom r " +
-            "LEFT JOIN FETCH r.quiz q " +
-            "LEFT JOIN FETCH q.questions qs " +
-            "LEFT JOIN FETCH qs.options " +
-            "WHERE r.currentQuestionEndTime < :now " +
+            "WHERE r.currentQuestionEndTime IS NOT NULL " +
             "AND (r.status = 'QUESTION_ACTIVE' OR r.status = 'QUESTION_FINISHED')")
-    List<QuizRoom> findRoomsWithExpiredTimer(@Param("now") LocalDateTime now);
+    List<QuizRoom> findRoomsWithRunningTimer();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE QuizRoom r SET r.currentQuestionEndTime = :endTime " +
+            "WHERE r.id = :id " +
+            "AND r.status = 'QUESTION_ACTIVE' " +
+            "AND r.currentQuestionIndex = :questionIndex " +
+            "AND r.currentQuestionEndTime > :endTime")
+    int shortenCurrentQuestionEndTime(@Param("id") UUID id,
+                                      @Param("questionIndex") int questionIndex,
+                                      @Param("endTime") LocalDateTime endTime);
 
     @Query("SELECT r FROM QuizRoom r WHERE r.status != 'FINISHED' AND r.validUntil < :now")
     List<QuizRoom> findAllExpiredActiveRooms(@Param("now") LocalDateTime now);
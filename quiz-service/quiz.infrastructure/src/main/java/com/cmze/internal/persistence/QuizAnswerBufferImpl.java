@@ -0,0 +1,208 @@
+package com.cmze.internal.persistence;
+
+import com.cmze.spi.helpers.runtime.PendingQuizAnswer;
+import com.cmze.spi.helpers.runtime.QuizAnswerBuffer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class QuizAnswerBufferImpl implements QuizAnswerBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizAnswerBufferImpl.class);
+
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO quiz_answers " +
+            "(entrant_id, question_id, question_index, selected_option_id, time_taken_ms, is_correct, points_awarded) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_ENTRANT_SQL =
+            "UPDATE quiz_participants " +
+            "SET total_score = ?, combo_streak = ?, last_answer_correct = ?, last_question_index = ? " +
+            "WHERE id = ? AND COALESCE(last_question_index, -1) < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Queue<PendingQuizAnswer> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flushExecutor;
+
+    public QuizAnswerBufferImpl(final JdbcTemplate jdbcTemplate,
+                                final PlatformTransactionManager transactionManager,
+                                @Value("${app.quiz.answers.batch-size:500}") final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final var thread = new Thread(runnable, "quiz-answer-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void enqueue(final PendingQuizAnswer answer) {
+        pending.add(answer);
+
+        if (pendingCount.incrementAndGet() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    @Override
+    public void flush() {
+        flushLock.lock();
+        try {
+            int remaining = pendingCount.get();
+
+            while (remaining > 0) {
+                final var batch = drain(Math.min(batchSize, remaining));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                remaining -= batch.size();
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean hasPending(final UUID roomId) {
+        return pending.stream().anyMatch(answer -> answer.roomId().equals(roomId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.quiz.answers.flush-interval-ms:200}")
+    public void scheduledFlush() {
+        if (pendingCount.get() > 0) {
+            flushQuietly();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.error("Failed to flush buffered quiz answers", e);
+        }
+    }
+
+    private List<PendingQuizAnswer> drain(final int limit) {
+        final var batch = new ArrayList<PendingQuizAnswer>(limit);
+
+        PendingQuizAnswer next;
+        while (batch.size() < limit && (next = pending.poll()) != null) {
+            batch.add(next);
+        }
+
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void write(final List<PendingQuizAnswer> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                insertAnswers(batch);
+                updateEntrants(batch);
+            });
+            logger.debug("Flushed {} quiz answers", batch.size());
+        } catch (DataAccessException e) {
+            logger.warn("Batch flush of {} quiz answers failed, retrying row by row: {}", batch.size(), e.getMessage());
+            writeOneByOne(batch);
+        }
+    }
+
+    private void writeOneByOne(final List<PendingQuizAnswer> batch) {
+        for (final var answer : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    insertAnswers(List.of(answer));
+                    updateEntrants(List.of(answer));
+                });
+            } catch (DataIntegrityViolationException e) {
+                logger.error("Dropping quiz answer of entrant {} for question {}: {}",
+                        answer.entrantId(), answer.questionIndex(), e.getMessage());
+            } catch (DataAccessException e) {
+                logger.error("Quiz answer of entrant {} for question {} re-queued: {}",
+                        answer.entrantId(), answer.questionIndex(), e.getMessage());
+                pending.add(answer);
+                pendingCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void insertAnswers(final List<PendingQuizAnswer> answers) {
+        jdbcTemplate.batchUpdate(INSERT_ANSWER_SQL, answers, answers.size(), (ps, answer) -> {
+            ps.setLong(1, answer.entrantId());
+            ps.setLong(2, answer.questionId());
+            ps.setInt(3, answer.questionIndex());
+            if (answer.selectedOptionId() != null) {
+                ps.setLong(4, answer.selectedOptionId());
+            } else {
+                ps.setNull(4, Types.BIGINT);
+            }
+            ps.setLong(5, answer.timeTakenMs());
+            ps.setBoolean(6, answer.correct());
+            ps.setInt(7, answer.pointsAwarded());
+        });
+    }
+
+    private void updateEntrants(final List<PendingQuizAnswer> answers) {
+        final var latestByEntrant = new LinkedHashMap<Long, PendingQuizAnswer>();
+
+        for (final var answer : answers) {
+            latestByEntrant.merge(answer.entrantId(), answer,
+                    (current, candidate) -> candidate.questionIndex() >= current.questionIndex() ? candidate : current);
+        }
+
+        final var updates = new ArrayList<>(latestByEntrant.values());
+
+        jdbcTemplate.batchUpdate(UPDATE_ENTRANT_SQL, updates, updates.size(), (ps, answer) -> {
+            ps.setInt(1, answer.entrantScore().totalScore());
+            ps.setInt(2, answer.entrantScore().comboStreak());
+            ps.setBoolean(3, answer.entrantScore().lastAnswerCorrect());
+            ps.setInt(4, answer.questionIndex());
+            ps.setLong(5, answer.entrantId());
+            ps.setInt(6, answer.questionIndex());
+        });
+    }
+}
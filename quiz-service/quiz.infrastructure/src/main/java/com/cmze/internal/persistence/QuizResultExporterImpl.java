@@ -0,0 +1,209 @@
+package com.cmze.internal.persistence;
+
+import com.cmze.spi.helpers.room.QuizExportFormat;
+import com.cmze.spi.helpers.room.QuizResultExporter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+@Component
+public class QuizResultExporterImpl implements QuizResultExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizResultExporterImpl.class);
+
+    private static final String EXPORT_SQL =
+            "SELECT r.entrant_rank, r.id AS entrant_id, r.user_id, r.nickname, r.total_score, " +
+            "a.question_index, a.question_id, a.selected_option_id, a.time_taken_ms, a.is_correct, a.points_awarded " +
+            "FROM (SELECT p.id, p.user_id, p.nickname, p.total_score, " +
+            "ROW_NUMBER() OVER (ORDER BY p.total_score DESC, p.id ASC) AS entrant_rank " +
+            "FROM quiz_participants p WHERE p.quiz_room_id = ? AND p.user_id <> ?) r " +
+            "LEFT JOIN quiz_answers a ON a.entrant_id = r.id " +
+            "ORDER BY r.entrant_rank, r.id, a.question_index";
+
+    private static final String CSV_HEADER =
+            "rank,entrant_id,user_id,nickname,total_score,question_index,question_id," +
+            "selected_option_id,time_taken_ms,is_correct,points_awarded";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public QuizResultExporterImpl(final DataSource dataSource,
+                                  final PlatformTransactionManager transactionManager,
+                                  @Value("${app.quiz.export.fetch-size:500}") final int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void export(final UUID roomId, final UUID hostId, final QuizExportFormat format, final OutputStream out) throws IOException {
+        final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        final var rowWriter = format == QuizExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        try {
+            rowWriter.begin();
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.query(EXPORT_SQL, (RowCallbackHandler) rs -> {
+                        try {
+                            rowWriter.write(rs);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, roomId, hostId));
+            rowWriter.end();
+        } catch (UncheckedIOException e) {
+            logger.warn("Export of quiz room {} aborted: {}", roomId, e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void end() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(final ResultSet rs) throws SQLException, IOException {
+            writer.write(Long.toString(rs.getLong("entrant_rank")));
+            writer.write(',');
+            writer.write(Long.toString(rs.getLong("entrant_id")));
+            writer.write(',');
+            writer.write(rs.getString("user_id"));
+            writer.write(',');
+            writeEscaped(rs.getString("nickname"));
+            writer.write(',');
+            writer.write(Integer.toString(rs.getInt("total_score")));
+            writer.write(',');
+            writeNullable(rs, "question_index");
+            writer.write(',');
+            writeNullable(rs, "question_id");
+            writer.write(',');
+            writeNullable(rs, "selected_option_id");
+            writer.write(',');
+            writeNullable(rs, "time_taken_ms");
+            writer.write(',');
+            writeNullable(rs, "is_correct");
+            writer.write(',');
+            writeNullable(rs, "points_awarded");
+            writer.write('\n');
+        }
+
+        @Override
+        public void end() {
+        }
+
+        private void writeNullable(final ResultSet rs, final String column) throws SQLException, IOException {
+            final var value = rs.getObject(column);
+            if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+
+        private void writeEscaped(final String text) throws IOException {
+            if (text == null) {
+                return;
+            }
+            // spreadsheets evaluate cells starting with these as formulas
+            final var value = !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0 ? "'" + text : text;
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private JsonGenerator generator;
+
+        private NdjsonRowWriter(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            generator = jsonFactory.createGenerator(writer);
+            generator.setRootValueSeparator(null);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(final ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("rank", rs.getLong("entrant_rank"));
+            generator.writeNumberField("entrantId", rs.getLong("entrant_id"));
+            generator.writeStringField("userId", rs.getString("user_id"));
+            generator.writeStringField("nickname", rs.getString("nickname"));
+            generator.writeNumberField("totalScore", rs.getInt("total_score"));
+
+            final int questionIndex = rs.getInt("question_index");
+            if (!rs.wasNull()) {
+                generator.writeNumberField("questionIndex", questionIndex);
+                generator.writeNumberField("questionId", rs.getLong("question_id"));
+                writeNullableLong("selectedOptionId", rs, "selected_option_id");
+                generator.writeNumberField("timeTakenMs", rs.getLong("time_taken_ms"));
+                generator.writeBooleanField("correct", rs.getBoolean("is_correct"));
+                generator.writeNumberField("pointsAwarded", rs.getInt("points_awarded"));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.close();
+        }
+
+        private void writeNullableLong(final String field, final ResultSet rs, final String column) throws SQLException, IOException {
+            final long value = rs.getLong(column);
+            if (rs.wasNull()) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.cmze.internal.runtime;
+
+import com.cmze.repository.QuizFormRepository;
+import com.cmze.spi.helpers.form.CompiledQuizForm;
+import com.cmze.spi.helpers.form.QuizFormCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class QuizFormCacheImpl implements QuizFormCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizFormCacheImpl.class);
+
+    private final QuizFormRepository quizFormRepository;
+    private final Map<Long, CompiledQuizForm> forms;
+
+    public QuizFormCacheImpl(final QuizFormRepository quizFormRepository,
+                             @Value("${app.quiz.form-cache.max-size:256}") final int maxSize) {
+        this.quizFormRepository = quizFormRepository;
+        this.forms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, CompiledQuizForm> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CompiledQuizForm> find(final Long formId) {
+        synchronized (forms) {
+            final var cached = forms.get(formId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        final var compiled = quizFormRepository.findByIdWithQuestions(formId).map(CompiledQuizForm::compile);
+
+        compiled.ifPresent(form -> {
+            synchronized (forms) {
+                forms.putIfAbsent(formId, form);
+            }
+            logger.debug("Compiled quiz form {} with {} questions", formId, form.getQuestionCount());
+        });
+        return compiled;
+    }
+
+    @Override
+    public void invalidate(final Long formId) {
+        synchronized (forms) {
+            forms.remove(formId);
+        }
+    }
+}
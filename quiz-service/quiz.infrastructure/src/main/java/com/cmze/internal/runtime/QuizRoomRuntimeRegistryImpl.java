@@ -0,0 +1,158 @@
+package com.cmze.internal.runtime;
+
+import com.cmze.entity.QuizRoom;
+import com.cmze.enums.QuizRoomStatus;
+import com.cmze.repository.QuizAnswerRepository;
+import com.cmze.repository.QuizEntrantRepository;
+import com.cmze.repository.QuizRoomRepository;
+import com.cmze.spi.helpers.form.CompiledQuizForm;
+import com.cmze.spi.helpers.form.QuizFormCache;
+import com.cmze.spi.helpers.runtime.QuizEntrantState;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntime;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class QuizRoomRuntimeRegistryImpl implements QuizRoomRuntimeRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizRoomRuntimeRegistryImpl.class);
+
+    private final QuizRoomRepository quizRoomRepository;
+    private final QuizEntrantRepository quizEntrantRepository;
+    private final QuizAnswerRepository quizAnswerRepository;
+    private final QuizFormCache quizFormCache;
+    private final long verifyIntervalMs;
+    private final Map<UUID, QuizRoomRuntime> runtimes = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> verifiedAt = new ConcurrentHashMap<>();
+
+    public QuizRoomRuntimeRegistryImpl(final QuizRoomRepository quizRoomRepository,
+                                       final QuizEntrantRepository quizEntrantRepository,
+                                       final QuizAnswerRepository quizAnswerRepository,
+                                       final QuizFormCache quizFormCache,
+                                       @Value("${app.quiz.runtime.verify-interval-ms:250}") final long verifyIntervalMs) {
+        this.quizRoomRepository = quizRoomRepository;
+        this.quizEntrantRepository = quizEntrantRepository;
+        this.quizAnswerRepository = quizAnswerRepository;
+        this.quizFormCache = quizFormCache;
+        this.verifyIntervalMs = verifyIntervalMs;
+    }
+
+    @Override
+    public Optional<QuizRoomRuntime> find(final UUID roomId) {
+        final var cached = runtimes.get(roomId);
+        if (cached != null) {
+            if (isCurrent(roomId, cached)) {
+                return Optional.of(cached);
+            }
+            logger.warn("Quiz room runtime for {} no longer matches the database, reloading", roomId);
+            runtimes.remove(roomId, cached);
+            verifiedAt.remove(roomId);
+        }
+
+        final var roomOpt = quizRoomRepository.findById(roomId);
+        if (roomOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var room = roomOpt.get();
+
+        if (room.getStatus() == QuizRoomStatus.FINISHED) {
+            return Optional.of(QuizRoomRuntime.finished(room, compiledForm(room)));
+        }
+
+        final var runtime = load(room);
+
+        logger.info("Quiz room runtime for {} loaded from database", roomId);
+        final var existing = runtimes.putIfAbsent(roomId, runtime);
+        return Optional.of(existing != null ? existing : runtime);
+    }
+
+    @Override
+    public Optional<QuizRoomRuntime> findLoaded(final UUID roomId) {
+        return Optional.ofNullable(runtimes.get(roomId));
+    }
+
+    @Override
+    public void attach(final QuizRoom room) {
+        if (room.getStatus() == QuizRoomStatus.FINISHED) {
+            evict(room.getId());
+            return;
+        }
+
+        final var runtime = runtimes.computeIfAbsent(room.getId(), id -> load(room));
+        runtime.sync(room);
+        // the transition is not committed yet; trust the local phase until the next check
+        verifiedAt.put(room.getId(), System.currentTimeMillis());
+    }
+
+    @Override
+    public void evict(final UUID roomId) {
+        verifiedAt.remove(roomId);
+        if (runtimes.remove(roomId) != null) {
+            logger.info("Quiz room runtime for {} released", roomId);
+        }
+    }
+
+    private boolean isCurrent(final UUID roomId, final QuizRoomRuntime runtime) {
+        final long now = System.currentTimeMillis();
+        final var last = verifiedAt.get(roomId);
+        if (last != null && now - last < verifyIntervalMs) {
+            return true;
+        }
+
+        final var viewOpt = quizRoomRepository.findPhaseById(roomId);
+        if (viewOpt.isEmpty()) {
+            return false;
+        }
+
+        final var view = viewOpt.get();
+        final var phase = runtime.getPhase();
+
+        if (view.getStatus() != phase.status()
+                || view.getCurrentQuestionIndex() != phase.questionIndex()
+                || view.getEntrantCount() > runtime.getEntrantCount()) {
+            return false;
+        }
+
+        verifiedAt.put(roomId, now);
+        return true;
+    }
+
+    private QuizRoomRuntime load(final QuizRoom room) {
+        final var entrants = quizEntrantRepository.findAllByQuizRoom_IdOrderByTotalScoreDescIdAsc(room.getId());
+        final var runtime = QuizRoomRuntime.compile(room, compiledForm(room), entrants.size());
+        final int index = room.getCurrentQuestionIndex();
+
+        final var selections = new HashMap<Long, Long>();
+        if (room.getStatus() == QuizRoomStatus.QUESTION_ACTIVE) {
+            for (final var selection : quizAnswerRepository.findSelectionsByRoomIdAndQuestionIndex(room.getId(), index)) {
+                selections.put(selection.getEntrantId(), selection.getSelectedOptionId());
+            }
+        }
+
+        for (final var entrant : entrants) {
+            final var state = runtime.registerEntrant(new QuizEntrantState(entrant));
+
+            if (selections.containsKey(entrant.getId())) {
+                runtime.markAnswered(index, state.getSlot());
+                runtime.countOptionPick(index, selections.get(entrant.getId()));
+            }
+        }
+        return runtime;
+    }
+
+    private CompiledQuizForm compiledForm(final QuizRoom room) {
+        final var formId = room.getQuiz().getId();
+        return quizFormCache.find(formId)
+                .orElseThrow(() -> new IllegalStateException("Quiz form " + formId + " not found"));
+    }
+}
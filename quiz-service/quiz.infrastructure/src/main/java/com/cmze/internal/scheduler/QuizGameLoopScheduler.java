@@ -2,43 +2,176 @@ package com.cmze.internal.scheduler;
 
 import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizRoomRepository;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntime;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
+import com.cmze.spi.helpers.runtime.QuizRoomTimer;
 import com.cmze.usecase.room.FinishCurrentQuestionUseCase;
 import com.cmze.usecase.room.NextQuestionUseCase;
-import org.springframework.scheduling.annotation.Scheduled;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
-public class QuizGameLoopScheduler {
+public class QuizGameLoopScheduler implements QuizRoomTimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizGameLoopScheduler.class);
+
+    private static final int TIMER_THREADS = 2;
+    private static final long RETRY_DELAY_MS = 1000;
+    private static final Duration EARLY_FIRE_TOLERANCE = Duration.ofMillis(250);
 
     private final QuizRoomRepository quizRoomRepository;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
     private final FinishCurrentQuestionUseCase finishCurrentQuestionUseCase;
     private final NextQuestionUseCase nextQuestionUseCase;
 
+    private final Map<UUID, ArmedTimer> timers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledThreadPoolExecutor executor;
+
     public QuizGameLoopScheduler(final QuizRoomRepository quizRoomRepository,
-                                 final FinishCurrentQuestionUseCase finishCurrentQuestionUseCase,
-                                 final NextQuestionUseCase nextQuestionUseCase) {
+                                 final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry,
+                                 @Lazy final FinishCurrentQuestionUseCase finishCurrentQuestionUseCase,
+                                 @Lazy final NextQuestionUseCase nextQuestionUseCase) {
         this.quizRoomRepository = quizRoomRepository;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
         this.finishCurrentQuestionUseCase = finishCurrentQuestionUseCase;
         this.nextQuestionUseCase = nextQuestionUseCase;
+
+        final var threadCounter = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(TIMER_THREADS, runnable -> {
+            final var thread = new Thread(runnable, "quiz-timer-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    // Every instance arms timers for all live rooms; QuizRoom is versioned, so when two
+    // instances fire for the same phase only one transition commits and the other backs off.
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreTimers() {
+        final var rooms = quizRoomRepository.findRoomsWithRunningTimer();
+
+        for (final var room : rooms) {
+            schedule(room.getId(), room.getCurrentQuestionEndTime());
+        }
+
+        if (!rooms.isEmpty()) {
+            logger.info("Restored question timers for {} live quiz rooms", rooms.size());
+        }
+    }
+
+    @Override
+    public void schedule(final UUID roomId, final LocalDateTime deadline) {
+        if (deadline == null) {
+            cancel(roomId);
+            return;
+        }
+
+        final long delayMs = Math.max(0, Duration.between(LocalDateTime.now(), deadline).toMillis());
+        arm(roomId, delayMs);
+    }
+
+    @Override
+    public void cancel(final UUID roomId) {
+        final var armed = timers.remove(roomId);
+        if (armed != null) {
+            armed.future().cancel(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 
-    @Scheduled(fixedRate = 1000)
-    public void checkQuestionTimers() {
-        final var now = LocalDateTime.now();
+    private void arm(final UUID roomId, final long delayMs) {
+        final long token = sequence.incrementAndGet();
 
-        final var expiredRooms = quizRoomRepository.findRoomsWithExpiredTimer(now);
+        timers.compute(roomId, (id, previous) -> {
+            if (previous != null) {
+                previous.future().cancel(false);
+            }
+            return new ArmedTimer(token, executor.schedule(() -> fire(id, token), delayMs, TimeUnit.MILLISECONDS));
+        });
+    }
+
+    private void fire(final UUID roomId, final long token) {
+        final var claimed = new boolean[1];
+
+        timers.computeIfPresent(roomId, (id, armed) -> {
+            if (armed.token() != token) {
+                return armed;
+            }
+            claimed[0] = true;
+            return null;
+        });
 
-        for (final var room : expiredRooms) {
+        if (!claimed[0]) {
+            return;
+        }
 
-            if (room.getStatus() == QuizRoomStatus.QUESTION_ACTIVE) {
-                finishCurrentQuestionUseCase.executeSystem(room);
+        try {
+            final var runtimeOpt = quizRoomRuntimeRegistry.find(roomId);
+            if (runtimeOpt.isEmpty()) {
+                return;
             }
 
-            else if (room.getStatus() == QuizRoomStatus.QUESTION_FINISHED) {
-                nextQuestionUseCase.executeSystem(room);
+            final var before = runtimeOpt.get().getPhase();
+
+            if (before.endTime() != null && before.endTime().isAfter(LocalDateTime.now().plus(EARLY_FIRE_TOLERANCE))) {
+                schedule(roomId, before.endTime());
+                return;
             }
+
+            if (before.status() == QuizRoomStatus.QUESTION_ACTIVE) {
+                finishCurrentQuestionUseCase.executeSystem(roomId);
+            } else if (before.status() == QuizRoomStatus.QUESTION_FINISHED) {
+                nextQuestionUseCase.executeSystem(roomId);
+            } else {
+                return;
+            }
+
+            if (isStalled(roomId, before)) {
+                logger.warn("Transition for quiz room {} did not complete, retrying in {} ms", roomId, RETRY_DELAY_MS);
+                arm(roomId, RETRY_DELAY_MS);
+            }
+        } catch (Exception e) {
+            logger.error("Question timer failed for quiz room {}", roomId, e);
+            arm(roomId, RETRY_DELAY_MS);
         }
     }
+
+    private boolean isStalled(final UUID roomId, final QuizRoomRuntime.Phase before) {
+        if (timers.containsKey(roomId)) {
+            return false;
+        }
+
+        final var runtimeOpt = quizRoomRuntimeRegistry.find(roomId);
+        if (runtimeOpt.isEmpty()) {
+            return false;
+        }
+
+        final var after = runtimeOpt.get().getPhase();
+        return after.status() == before.status() && after.questionIndex() == before.questionIndex();
+    }
+
+    private record ArmedTimer(long token, ScheduledFuture<?> future) {
+    }
 }
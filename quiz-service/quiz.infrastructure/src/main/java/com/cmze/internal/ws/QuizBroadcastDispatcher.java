@@ -0,0 +1,184 @@
+package com.cmze.internal.ws;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class QuizBroadcastDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizBroadcastDispatcher.class);
+
+    private static final int DRAIN_BATCH = 64;
+
+    private final ExecutorService executor;
+    private final Semaphore capacity;
+    private final long offerTimeoutMs;
+    private final long tombstoneTtlMs;
+    private final Map<UUID, RoomLane> lanes = new ConcurrentHashMap<>();
+    // released rooms stay here for a while so late events are dropped instead of opening a new lane
+    private final Map<UUID, Long> released = new ConcurrentHashMap<>();
+
+    private final Counter dropped;
+    private final Counter rejected;
+    private final Timer latency;
+
+    public QuizBroadcastDispatcher(final MeterRegistry meterRegistry,
+                                   @Value("${app.quiz.ws.dispatch.threads:4}") final int threads,
+                                   @Value("${app.quiz.ws.dispatch.queue-capacity:10000}") final int queueCapacity,
+                                   @Value("${app.quiz.ws.dispatch.offer-timeout-ms:50}") final long offerTimeoutMs,
+                                   @Value("${app.quiz.ws.dispatch.tombstone-ttl-ms:600000}") final long tombstoneTtlMs) {
+        this.capacity = new Semaphore(queueCapacity);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.tombstoneTtlMs = tombstoneTtlMs;
+
+        final var threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final var thread = new Thread(runnable, "quiz-ws-dispatch-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.dropped = Counter.builder("quiz.ws.dispatch.dropped")
+                .description("Non-critical broadcasts dropped because the dispatch queue was full")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("quiz.ws.dispatch.rejected")
+                .description("Critical broadcasts rejected because the dispatch queue stayed full past the offer timeout")
+                .register(meterRegistry);
+        this.latency = Timer.builder("quiz.ws.dispatch.latency")
+                .description("Time from dispatch to completed broadcast")
+                .register(meterRegistry);
+        Gauge.builder("quiz.ws.dispatch.pending", capacity, permits -> queueCapacity - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    public void dispatch(final UUID roomId, final Runnable task) {
+        submit(roomId, task, true);
+    }
+
+    public void dispatchDroppable(final UUID roomId, final Runnable task) {
+        submit(roomId, task, false);
+    }
+
+    public void release(final UUID roomId) {
+        final long now = System.currentTimeMillis();
+        released.put(roomId, now);
+        released.values().removeIf(releasedAt -> now - releasedAt > tombstoneTtlMs);
+
+        final var lane = lanes.get(roomId);
+        if (lane != null) {
+            retire(roomId, lane);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void submit(final UUID roomId, final Runnable task, final boolean critical) {
+        if (released.containsKey(roomId)) {
+            logger.debug("Quiz room {} already released, dropping broadcast", roomId);
+            return;
+        }
+
+        if (!acquire(critical)) {
+            if (!critical) {
+                dropped.increment();
+                logger.debug("Dispatch queue full, dropping broadcast for quiz room {}", roomId);
+                return;
+            }
+            rejected.increment();
+            logger.error("Dispatch queue full for {} ms, rejecting critical broadcast for quiz room {}", offerTimeoutMs, roomId);
+            throw new RejectedExecutionException("Broadcast dispatch queue is full");
+        }
+
+        final long enqueuedAt = System.nanoTime();
+        final var lane = lanes.computeIfAbsent(roomId, id -> new RoomLane());
+
+        lane.tasks.add(() -> run(roomId, task, enqueuedAt));
+        if (released.containsKey(roomId)) {
+            // released while this task was being queued; the lane must not outlive it
+            retire(roomId, lane);
+        }
+        schedule(lane);
+    }
+
+    private void retire(final UUID roomId, final RoomLane lane) {
+        lane.tasks.add(() -> lanes.remove(roomId, lane));
+        schedule(lane);
+    }
+
+    private boolean acquire(final boolean critical) {
+        if (capacity.tryAcquire()) {
+            return true;
+        }
+        if (!critical) {
+            return false;
+        }
+
+        try {
+            return capacity.tryAcquire(offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void schedule(final RoomLane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(final RoomLane lane) {
+        for (int processed = 0; processed < DRAIN_BATCH; processed++) {
+            final var next = lane.tasks.poll();
+            if (next == null) {
+                break;
+            }
+            next.run();
+        }
+
+        lane.scheduled.set(false);
+        if (!lane.tasks.isEmpty()) {
+            schedule(lane);
+        }
+    }
+
+    private void run(final UUID roomId, final Runnable task, final long enqueuedAt) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            logger.error("Broadcast for quiz room {} failed", roomId, e);
+        } finally {
+            capacity.release();
+            latency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class RoomLane {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+}
@@ -1,122 +1,187 @@
 package com.cmze.internal.ws;
 
+import com.cmze.entity.Question;
 import com.cmze.internal.ws.messages.*;
 import com.cmze.spi.helpers.room.QuestionOptionDto;
 import com.cmze.ws.event.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Service
 public class QuizEventWebSocketNotifier {
 
     private static final Logger logger = LoggerFactory.getLogger(QuizEventWebSocketNotifier.class);
-    private final SimpMessagingTemplate messagingTemplate;
 
-    public QuizEventWebSocketNotifier(final SimpMessagingTemplate messagingTemplate) {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final QuizTopicBroadcaster broadcaster;
+    private final QuizJoinCoalescer joinCoalescer;
+    private final QuizBroadcastDispatcher dispatcher;
+
+    public QuizEventWebSocketNotifier(final SimpMessagingTemplate messagingTemplate,
+                                      final QuizTopicBroadcaster broadcaster,
+                                      final QuizJoinCoalescer joinCoalescer,
+                                      final QuizBroadcastDispatcher dispatcher) {
         this.messagingTemplate = messagingTemplate;
+        this.broadcaster = broadcaster;
+        this.joinCoalescer = joinCoalescer;
+        this.dispatcher = dispatcher;
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleParticipantJoined(final QuizEntrantJoinedEvent event) {
         final var roomId = event.getRoomId();
-        final var topic = "/topic/quiz/" + roomId;
 
-        final var payload = new QuizUserJoinedSocketMessage(
+        final var joined = new QuizUsersJoinedSocketMessage.JoinedUser(
                 event.getParticipantId(),
                 event.getUserId(),
-                event.getUsername(),
-                event.getTotalParticipants()
+                event.getUsername()
         );
 
         logger.info("Quiz: User {} joined room {}", event.getUsername(), roomId);
-        messagingTemplate.convertAndSend(topic, payload);
+        joinCoalescer.add(roomId, joined, event.getTotalParticipants());
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleQuizStarted(final QuizStartedEvent event) {
-        final var topic = "/topic/quiz/" + event.getRoomId();
+        final var roomId = event.getRoomId();
 
-        logger.info("Quiz started: {}", event.getRoomId());
-        messagingTemplate.convertAndSend(topic, new QuizStartedSocketMessage());
+        dispatcher.dispatch(roomId, () -> {
+            logger.info("Quiz started: {}", roomId);
+            joinCoalescer.flush(roomId);
+            broadcaster.broadcast(roomId, new QuizStartedSocketMessage());
+        });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleNewQuestion(final QuizNewQuestionEvent event) {
-        final var topic = "/topic/quiz/" + event.getRoomId();
-        final var question = event.getQuestion();
-
-        final var optionsDto = question.getOptions().stream()
-                .map(o -> new QuestionOptionDto(o.getId(), o.getText()))
-                .toList();
+        final var roomId = event.getRoomId();
+        final var questionIndex = event.getQuestionIndex();
+        final var startTime = event.getStartTime();
 
-        final var payload = new NewQuestionSocketMessage(
-                question.getId(),
-                event.getQuestionIndex(),
-                question.getTitle(),
-                optionsDto,
+        final var payload = toNewQuestionMessage(
+                event.getQuestion(),
+                questionIndex,
                 event.getTimeLimitSeconds(),
-                event.getStartTime()
+                startTime
         );
 
-        logger.info("Quiz: New question {} sent to room {}", event.getQuestionIndex(), event.getRoomId());
-        messagingTemplate.convertAndSend(topic, payload);
+        dispatcher.dispatch(roomId, () -> {
+            logger.info("Quiz: New question {} sent to room {}", questionIndex, roomId);
+            broadcaster.broadcast(roomId, payload);
+        });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleQuestionFinished(final QuizQuestionFinishedEvent event) {
-        final var topic = "/topic/quiz/" + event.getRoomId();
+        final var roomId = event.getRoomId();
 
         final var payload = new QuestionFinishedSocketMessage(
                 event.getCorrectOptionId(),
-                null
+                event.getAnswerStats()
         );
 
-        logger.info("Quiz: Question finished in room {}", event.getRoomId());
-        messagingTemplate.convertAndSend(topic, payload);
+        dispatcher.dispatch(roomId, () -> {
+            logger.info("Quiz: Question finished in room {}", roomId);
+            broadcaster.broadcast(roomId, payload);
+        });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleLeaderboardUpdate(final QuizLeaderboardEvent event) {
-        final var topic = "/topic/quiz/" + event.getRoomId();
-
+        final var roomId = event.getRoomId();
         final var payload = new LeaderboardSocketMessage(event.getTopPlayers());
 
-        logger.info("Quiz: Leaderboard updated for room {}", event.getRoomId());
-        messagingTemplate.convertAndSend(topic, payload);
+        dispatcher.dispatch(roomId, () -> {
+            logger.info("Quiz: Leaderboard updated for room {}", roomId);
+            broadcaster.broadcast(roomId, payload);
+        });
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleLeaderboardDelta(final QuizLeaderboardDeltaEvent event) {
+        final var roomId = event.getRoomId();
+
+        final var payload = new LeaderboardDeltaSocketMessage(
+                event.getEpoch(),
+                event.getSequence(),
+                event.getTotalPlayers(),
+                event.getTopPlayers(),
+                event.getChangedEntries()
+        );
+
+        dispatcher.dispatch(roomId, () -> {
+            logger.info("Quiz: Leaderboard delta #{} ({} changed) for room {}",
+                    event.getSequence(), event.getChangedEntries().size(), roomId);
+            broadcaster.broadcast(roomId, payload);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleRoomClosed(final QuizRoomClosedEvent event) {
-        final var topic = "/topic/quiz/" + event.getRoomId();
+        final var roomId = event.getRoomId();
 
         final var payload = new QuizRoomClosedSocketMessage(
                 new LeaderboardSocketMessage(event.getFinalRanking())
         );
 
-        logger.info("Quiz: Room closed {}", event.getRoomId());
-        messagingTemplate.convertAndSend(topic, payload);
+        try {
+            dispatcher.dispatch(roomId, () -> {
+                logger.info("Quiz: Room closed {}", roomId);
+                joinCoalescer.flush(roomId);
+                broadcaster.broadcast(roomId, payload);
+
+                broadcaster.release(roomId);
+            });
+        } finally {
+            dispatcher.release(roomId);
+        }
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleInvitationsGenerated(final InvitationsGeneratedEvent event) {
-        logger.info("Processing generated invitations for quiz room {}", event.getRoomId());
+        final var roomId = event.getRoomId();
 
-        event.getInvitations().forEach((userId, token) -> {
+        dispatcher.dispatch(UUID.fromString(roomId), () -> {
+            logger.info("Processing generated invitations for quiz room {}", roomId);
 
-            final var payload = new InvitationSocketMessage(
-                    event.getRoomId(),
-                    event.getQuizTitle(),
-                    token
-            );
+            event.getInvitations().forEach((userId, token) -> {
 
-            messagingTemplate.convertAndSendToUser(
-                    userId.toString(),
-                    "/queue/invitations",
-                    payload
-            );
+                final var payload = new InvitationSocketMessage(
+                        roomId,
+                        event.getQuizTitle(),
+                        token
+                );
+
+                messagingTemplate.convertAndSendToUser(
+                        userId.toString(),
+                        "/queue/invitations",
+                        payload
+                );
+            });
         });
     }
+
+    private NewQuestionSocketMessage toNewQuestionMessage(final Question question,
+                                                          final int questionIndex,
+                                                          final int timeLimitSeconds,
+                                                          final LocalDateTime startTime) {
+        final var optionsDto = question.getOptions().stream()
+                .map(o -> new QuestionOptionDto(o.getId(), o.getText()))
+                .toList();
+
+        return new NewQuestionSocketMessage(
+                question.getId(),
+                questionIndex,
+                question.getTitle(),
+                optionsDto,
+                timeLimitSeconds,
+                startTime
+        );
+    }
 }
@@ -0,0 +1,268 @@
+package com.cmze.internal.ws;
+
+import com.cmze.spi.helpers.runtime.QuizRoomPresence;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class QuizPresenceRegistry implements QuizRoomPresence {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizPresenceRegistry.class);
+
+    private static final String TOPIC_PREFIX = "/topic/quiz/";
+    private static final char MEMBER_SEPARATOR = '@';
+
+    private final long graceMs;
+    private final long sweepIntervalMs;
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<UUID, RoomPresence> rooms = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+
+    public QuizPresenceRegistry(final MeterRegistry meterRegistry,
+                                final ObjectProvider<StringRedisTemplate> redisTemplate,
+                                @Value("${app.quiz.presence.grace-ms:15000}") final long graceMs,
+                                @Value("${app.quiz.presence.sweep-interval-ms:1000}") final long sweepIntervalMs,
+                                @Value("${app.quiz.presence.shared:false}") final boolean shared,
+                                @Value("${app.quiz.presence.key-prefix:quiz:presence:}") final String keyPrefix) {
+        this.graceMs = graceMs;
+        this.sweepIntervalMs = sweepIntervalMs;
+        this.redisTemplate = shared ? redisTemplate.getIfAvailable() : null;
+        this.keyPrefix = keyPrefix;
+
+        Gauge.builder("quiz.presence.sessions", sessions, Map::size)
+                .description("STOMP sessions subscribed to at least one quiz room")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int connectedCount(final UUID roomId) {
+        return connectedUsers(roomId).size();
+    }
+
+    @Override
+    public Set<UUID> connectedUsers(final UUID roomId) {
+        final var room = rooms.get(roomId);
+        final var users = room != null ? room.users() : new HashSet<UUID>();
+
+        if (redisTemplate == null) {
+            return users;
+        }
+
+        try {
+            final var members = redisTemplate.opsForZSet()
+                    .rangeByScore(key(roomId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (members != null) {
+                for (final var member : members) {
+                    final var userId = parseUserId(member.substring(0, Math.max(0, member.indexOf(MEMBER_SEPARATOR))));
+                    if (userId != null) {
+                        users.add(userId);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Could not read shared presence for quiz room {}: {}", roomId, e.getMessage());
+        }
+        return users;
+    }
+
+    @EventListener
+    public void handleSubscribe(final SessionSubscribeEvent event) {
+        final var accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        final var roomId = roomId(accessor.getDestination());
+        final var userId = userId(event.getUser());
+
+        if (roomId == null || userId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        final var previous = sessions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), new Subscription(roomId, userId));
+        if (previous == null) {
+            rooms.compute(roomId, (id, room) -> {
+                final var current = room != null ? room : new RoomPresence();
+                current.attach(userId);
+                return current;
+            });
+            share(roomId, Map.of(userId, System.currentTimeMillis() + graceMs + sweepIntervalMs));
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(final SessionUnsubscribeEvent event) {
+        final var accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        final var subscriptions = accessor.getSessionId() != null ? sessions.get(accessor.getSessionId()) : null;
+
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        final var subscription = subscriptions.remove(accessor.getSubscriptionId());
+        if (subscription != null) {
+            detach(subscription);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(final SessionDisconnectEvent event) {
+        final var subscriptions = sessions.remove(event.getSessionId());
+
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::detach);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.quiz.presence.sweep-interval-ms:1000}")
+    public void sweep() {
+        final long now = System.currentTimeMillis();
+        final long cutoff = now - graceMs;
+
+        rooms.forEach((roomId, room) -> {
+            final int expired = room.expire(cutoff);
+            if (expired > 0) {
+                logger.debug("{} players left quiz room {} after the grace period", expired, roomId);
+            }
+            share(roomId, room.deadlines(now + graceMs + sweepIntervalMs, graceMs));
+            if (room.isEmpty()) {
+                rooms.computeIfPresent(roomId, (id, current) -> current.isEmpty() ? null : current);
+            }
+        });
+    }
+
+    private void detach(final Subscription subscription) {
+        final var room = rooms.get(subscription.roomId());
+        if (room != null) {
+            room.detach(subscription.userId(), System.currentTimeMillis());
+        }
+    }
+
+    // each instance publishes its own users with the time they stop counting as present,
+    // so peers see players whose sockets landed on another instance
+    private void share(final UUID roomId, final Map<UUID, Long> deadlines) {
+        if (redisTemplate == null || deadlines.isEmpty()) {
+            return;
+        }
+
+        final var tuples = new HashSet<ZSetOperations.TypedTuple<String>>(deadlines.size() * 2);
+        deadlines.forEach((userId, deadline) ->
+                tuples.add(ZSetOperations.TypedTuple.of(userId.toString() + MEMBER_SEPARATOR + instanceId, (double) deadline)));
+
+        try {
+            final var key = key(roomId);
+            redisTemplate.opsForZSet().add(key, tuples);
+            redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+            redisTemplate.expire(key, Duration.ofMillis(graceMs + sweepIntervalMs * 2));
+        } catch (Exception e) {
+            logger.debug("Could not share presence for quiz room {}: {}", roomId, e.getMessage());
+        }
+    }
+
+    private String key(final UUID roomId) {
+        return keyPrefix + roomId;
+    }
+
+    private static UUID roomId(final String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(TOPIC_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static UUID userId(final Principal principal) {
+        return principal != null ? parseUserId(principal.getName()) : null;
+    }
+
+    private static UUID parseUserId(final String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record Subscription(UUID roomId, UUID userId) {
+    }
+
+    private static final class RoomPresence {
+
+        private final Map<UUID, Presence> users = new ConcurrentHashMap<>();
+
+        void attach(final UUID userId) {
+            users.compute(userId, (id, presence) -> {
+                final var current = presence != null ? presence : new Presence();
+                current.sessions++;
+                current.leftAt = 0;
+                return current;
+            });
+        }
+
+        void detach(final UUID userId, final long now) {
+            users.computeIfPresent(userId, (id, presence) -> {
+                presence.sessions = Math.max(0, presence.sessions - 1);
+                if (presence.sessions == 0) {
+                    presence.leftAt = now;
+                }
+                return presence;
+            });
+        }
+
+        int expire(final long cutoff) {
+            int expired = 0;
+            for (final var userId : users.keySet()) {
+                final var remaining = users.computeIfPresent(userId, (id, presence) ->
+                        presence.sessions == 0 && presence.leftAt <= cutoff ? null : presence);
+                if (remaining == null) {
+                    expired++;
+                }
+            }
+            return expired;
+        }
+
+        Set<UUID> users() {
+            return new HashSet<>(users.keySet());
+        }
+
+        Map<UUID, Long> deadlines(final long connectedUntil, final long graceMs) {
+            final Map<UUID, Long> deadlines = new HashMap<>(users.size() * 2);
+            users.forEach((userId, presence) ->
+                    deadlines.put(userId, presence.sessions > 0 ? connectedUntil : presence.leftAt + graceMs));
+            return deadlines;
+        }
+
+        boolean isEmpty() {
+            return users.isEmpty();
+        }
+    }
+
+    private static final class Presence {
+        private volatile int sessions;
+        private volatile long leftAt;
+    }
+}
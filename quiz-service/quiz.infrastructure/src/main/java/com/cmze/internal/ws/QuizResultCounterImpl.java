@@ -1,14 +1,17 @@
 package com.cmze.internal.ws;
 
+import com.cmze.enums.QuizRoomStatus;
 import com.cmze.repository.QuizEntrantRepository;
 import com.cmze.repository.QuizRoomRepository;
 import com.cmze.spi.helpers.room.FinalRoomResultsDto;
 import com.cmze.spi.helpers.room.LeaderboardEntryDto;
 import com.cmze.spi.helpers.room.QuizResultCounter;
+import com.cmze.spi.helpers.runtime.QuizRoomRuntimeRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -17,22 +20,32 @@ public class QuizResultCounterImpl implements QuizResultCounter {
 
     private final QuizEntrantRepository quizEntrantRepository;
     private final QuizRoomRepository quizRoomRepository;
+    private final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry;
 
     public QuizResultCounterImpl(final QuizEntrantRepository quizEntrantRepository,
-                                 final QuizRoomRepository quizRoomRepository) {
+                                 final QuizRoomRepository quizRoomRepository,
+                                 final QuizRoomRuntimeRegistry quizRoomRuntimeRegistry) {
         this.quizEntrantRepository = quizEntrantRepository;
         this.quizRoomRepository = quizRoomRepository;
+        this.quizRoomRuntimeRegistry = quizRoomRuntimeRegistry;
     }
 
     @Override
     public FinalRoomResultsDto calculate(final UUID roomId) {
+        if (quizRoomRuntimeRegistry.findLoaded(roomId).isPresent()) {
+            // find re-checks the cached runtime against the database, so a non-owner cannot serve a stale board
+            final var runtime = quizRoomRuntimeRegistry.find(roomId);
+            if (runtime.isPresent() && runtime.get().getPhase().status() != QuizRoomStatus.FINISHED) {
+                return fromLeaderboard(runtime.get().getLeaderboard().snapshot());
+            }
+        }
 
         final var room = quizRoomRepository.findById(roomId)
                 .orElseThrow(() -> new RuntimeException("Room not found"));
 
         final var hostId = room.getHostId();
 
-        final var allEntrants = quizEntrantRepository.findAllByQuizRoom_IdOrderByTotalScoreDesc(roomId);
+        final var allEntrants = quizEntrantRepository.findAllByQuizRoom_IdOrderByTotalScoreDescIdAsc(roomId);
 
         final var playersOnly = allEntrants.stream()
                 .filter(entrant -> !entrant.getUserId().equals(hostId))
@@ -55,4 +68,8 @@ public class QuizResultCounterImpl implements QuizResultCounter {
                 leaderboard
         );
     }
+
+    private FinalRoomResultsDto fromLeaderboard(final List<LeaderboardEntryDto> leaderboard) {
+        return new FinalRoomResultsDto((long) leaderboard.size(), leaderboard);
+    }
 }
@@ -0,0 +1,104 @@
+package com.cmze.internal.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class QuizTopicBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizTopicBroadcaster.class);
+
+    // per-room totals only go to the log on release; the bound keeps rooms that never close from piling up
+    private static final int MAX_TRACKED_ROOMS = 10_000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Counter topicBytes;
+    private final Map<UUID, LongAdder> roomBytes = new ConcurrentHashMap<>();
+
+    public QuizTopicBroadcaster(final SimpMessagingTemplate messagingTemplate,
+                                final ObjectMapper objectMapper,
+                                final MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.topicBytes = Counter.builder("quiz.ws.topic.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public void broadcast(final UUID roomId, final Object payload) {
+        send(roomId, render(payload));
+    }
+
+    public byte[] render(final Object payload) {
+        final var type = payload.getClass().getSimpleName();
+        final long start = System.nanoTime();
+
+        final byte[] body = writeBytes(payload);
+
+        Timer.builder("quiz.ws.serialization")
+                .tag("message", type)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("quiz.ws.payload.bytes")
+                .baseUnit("bytes")
+                .tag("message", type)
+                .register(meterRegistry)
+                .record(body.length);
+
+        return body;
+    }
+
+    private byte[] writeBytes(final Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    public void send(final UUID roomId, final byte[] body) {
+        final var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send("/topic/quiz/" + roomId, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+
+        topicBytes.increment(body.length);
+
+        var tally = roomBytes.get(roomId);
+        if (tally == null && roomBytes.size() < MAX_TRACKED_ROOMS) {
+            tally = roomBytes.computeIfAbsent(roomId, id -> new LongAdder());
+        }
+        if (tally != null) {
+            tally.add(body.length);
+        }
+    }
+
+    public void release(final UUID roomId) {
+        final var tally = roomBytes.remove(roomId);
+        if (tally != null) {
+            logger.info("Quiz room {} sent {} bytes over its topic", roomId, tally.sum());
+        }
+    }
+}
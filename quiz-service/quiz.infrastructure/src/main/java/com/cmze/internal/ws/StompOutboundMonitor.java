@@ -0,0 +1,92 @@
+package com.cmze.internal.ws;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class StompOutboundMonitor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(StompOutboundMonitor.class);
+
+    private static final String OUTBOUND_EXECUTOR = "clientOutboundChannelExecutor";
+
+    private final BeanFactory beanFactory;
+    private final ThreadLocal<Long> handleStart = new ThreadLocal<>();
+    private volatile ThreadPoolTaskExecutor outboundExecutor;
+
+    private final Timer sendLatency;
+    private final Counter evicted;
+
+    public StompOutboundMonitor(final BeanFactory beanFactory, final MeterRegistry meterRegistry) {
+        this.beanFactory = beanFactory;
+
+        this.sendLatency = Timer.builder("quiz.ws.outbound.send.latency")
+                .description("Time spent handing a frame to a client session")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("quiz.ws.sessions.evicted")
+                .description("Sessions closed for exceeding the send time or buffer limit")
+                .register(meterRegistry);
+        Gauge.builder("quiz.ws.outbound.queue.depth", this, monitor -> monitor.outboundExecutor().getQueueSize())
+                .description("Frames waiting on the client outbound channel")
+                .register(meterRegistry);
+        Gauge.builder("quiz.ws.outbound.active", this, monitor -> monitor.outboundExecutor().getActiveCount())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> beforeHandle(final Message<?> message, final MessageChannel channel, final MessageHandler handler) {
+        handleStart.set(System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(final Message<?> message, final MessageChannel channel,
+                                    final MessageHandler handler, final Exception ex) {
+        final var start = handleStart.get();
+        if (start != null) {
+            handleStart.remove();
+            sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public WebSocketHandler decorate(final WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(final WebSocketSession session, final CloseStatus closeStatus) throws Exception {
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    evicted.increment();
+                    logger.info("Evicted slow WebSocket session {}", session.getId());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private ThreadPoolTaskExecutor outboundExecutor() {
+        var executor = outboundExecutor;
+        if (executor == null) {
+            executor = beanFactory.getBean(OUTBOUND_EXECUTOR, ThreadPoolTaskExecutor.class);
+            outboundExecutor = executor;
+        }
+        return executor;
+    }
+}
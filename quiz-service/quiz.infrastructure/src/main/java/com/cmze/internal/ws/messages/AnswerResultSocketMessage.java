@@ -0,0 +1,25 @@
+package com.cmze.internal.ws.messages;
+
+import com.cmze.response.SubmitQuizAnswerResponse;
+import lombok.Data;
+import org.springframework.http.ProblemDetail;
+
+@Data
+public class AnswerResultSocketMessage {
+    private final String event = "ANSWER_RESULT";
+
+    private String correlationId;
+    private boolean success;
+    private SubmitQuizAnswerResponse result;
+    private ProblemDetail error;
+
+    public AnswerResultSocketMessage(String correlationId,
+                                     boolean success,
+                                     SubmitQuizAnswerResponse result,
+                                     ProblemDetail error) {
+        this.correlationId = correlationId;
+        this.success = success;
+        this.result = result;
+        this.error = error;
+    }
+}
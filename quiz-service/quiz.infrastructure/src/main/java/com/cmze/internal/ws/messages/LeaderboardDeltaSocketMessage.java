@@ -0,0 +1,29 @@
+package com.cmze.internal.ws.messages;
+
+import com.cmze.spi.helpers.room.LeaderboardEntryDto;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class LeaderboardDeltaSocketMessage {
+    private final String event = "LEADERBOARD_DELTA";
+
+    private String epoch;
+    private long sequence;
+    private int totalPlayers;
+    private List<LeaderboardEntryDto> topPlayers;
+    private List<LeaderboardEntryDto> changedEntries;
+
+    public LeaderboardDeltaSocketMessage(String epoch,
+                                         long sequence,
+                                         int totalPlayers,
+                                         List<LeaderboardEntryDto> topPlayers,
+                                         List<LeaderboardEntryDto> changedEntries) {
+        this.epoch = epoch;
+        this.sequence = sequence;
+        this.totalPlayers = totalPlayers;
+        this.topPlayers = topPlayers;
+        this.changedEntries = changedEntries;
+    }
+}
@@ -0,0 +1,28 @@
+package com.cmze.internal.ws.messages;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class QuizUsersJoinedSocketMessage {
+    private final String event = "USERS_JOINED";
+
+    private List<JoinedUser> users;
+    private long newParticipantCount;
+
+    public QuizUsersJoinedSocketMessage(List<JoinedUser> users, long newParticipantCount) {
+        this.users = users;
+        this.newParticipantCount = newParticipantCount;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class JoinedUser {
+        private Long participantId;
+        private UUID userId;
+        private String username;
+    }
+}
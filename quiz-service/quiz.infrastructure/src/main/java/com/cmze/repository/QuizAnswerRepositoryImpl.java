@@ -4,6 +4,7 @@ import com.cmze.entity.QuizAnswer;
 import com.cmze.external.jpa.QuizAnswerJpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -25,6 +26,11 @@ public class QuizAnswerRepositoryImpl implements QuizAnswerRepository {
         return impl.countByRoomIdAndQuestionIndex(roomId, questionIndex);
     }
 
+    @Override
+    public List<AnswerSelectionView> findSelectionsByRoomIdAndQuestionIndex(UUID roomId, int questionIndex) {
+        return impl.findSelectionsByRoomIdAndQuestionIndex(roomId, questionIndex);
+    }
+
     @Override
     public QuizAnswer save(QuizAnswer quizAnswer) {
         return impl.save(quizAnswer);
@@ -38,7 +38,7 @@ public class QuizEntrantRepositoryImpl implements QuizEntrantRepository {
     }
 
     @Override
-    public List<QuizEntrant> findAllByQuizRoom_IdOrderByTotalScoreDesc(UUID roomId) {
-        return impl.findAllByQuizRoom_IdOrderByTotalScoreDesc(roomId);
+    public List<QuizEntrant> findAllByQuizRoom_IdOrderByTotalScoreDescIdAsc(UUID roomId) {
+        return impl.findAllByQuizRoom_IdOrderByTotalScoreDescIdAsc(roomId);
     }
 }
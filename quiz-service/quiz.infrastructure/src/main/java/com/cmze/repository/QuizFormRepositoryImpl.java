@@ -29,6 +29,11 @@ public class QuizFormRepositoryImpl implements QuizFormRepository {
         return impl.findById(formId);
     }
 
+    @Override
+    public Optional<QuizForm> findByIdWithQuestions(Long formId) {
+        return impl.findByIdWithQuestions(formId);
+    }
+
     @Override
     public Page<QuizForm> findAll(Specification<QuizForm> finalSpec, Pageable pageable) {
         return impl.findAll(finalSpec, pageable);
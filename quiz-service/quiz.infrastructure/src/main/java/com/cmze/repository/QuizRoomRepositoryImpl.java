@@ -31,6 +31,11 @@ public class QuizRoomRepositoryImpl implements QuizRoomRepository {
         return impl.findById(id);
     }
 
+    @Override
+    public QuizRoom getReferenceById(UUID id) {
+        return impl.getReferenceById(id);
+    }
+
     @Override
     public Optional<QuizRoom> findByIdWithQuiz(UUID id) {
         return impl.findByIdWithQuiz(id);
@@ -41,14 +46,34 @@ public class QuizRoomRepositoryImpl implements QuizRoomRepository {
         return impl.save(quizRoom);
     }
 
+    @Override
+    public QuizRoom saveAndFlush(QuizRoom quizRoom) {
+        return impl.saveAndFlush(quizRoom);
+    }
+
     @Override
     public Optional<QuizRoom> findByIdWithFullQuizStructure(UUID id) {
         return impl.findByIdWithFullQuizStructure(id);
     }
 
     @Override
-    public List<QuizRoom> findRoomsWithExpiredTimer(LocalDateTime now) {
-        return impl.findRoomsWithExpiredTimer(now);
+    public Optional<QuizRoomPhaseView> findPhaseById(UUID id) {
+        return impl.findPhaseById(id);
+    }
+
+    @Override
+    public int incrementEntrantCount(UUID id) {
+        return impl.incrementEntrantCount(id);
+    }
+
+    @Override
+    public List<QuizRoom> findRoomsWithRunningTimer() {
+        return impl.findRoomsWithRunningTimer();
+    }
+
+    @Override
+    public int shortenCurrentQuestionEndTime(UUID id, int questionIndex, LocalDateTime endTime) {
+        return impl.shortenCurrentQuestionEndTime(id, questionIndex, endTime);
     }
 
     @Override
@@ -0,0 +1,67 @@
+package com.cmze.internal.ws;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class QuizBroadcastDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QuizBroadcastDispatcher dispatcher = new QuizBroadcastDispatcher(meterRegistry, 1, 2, 20, 60_000);
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        gate.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void criticalBroadcastPastCapacityIsRejected() {
+        final var roomId = UUID.randomUUID();
+        dispatcher.dispatch(roomId, this::awaitGate);
+        dispatcher.dispatch(roomId, () -> { });
+
+        assertThatThrownBy(() -> dispatcher.dispatch(roomId, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.counter("quiz.ws.dispatch.rejected").count()).isEqualTo(1);
+
+        dispatcher.dispatchDroppable(roomId, () -> { });
+        assertThat(meterRegistry.counter("quiz.ws.dispatch.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void broadcastsAfterReleaseAreDropped() {
+        final var roomId = UUID.randomUUID();
+        final var runs = new AtomicInteger();
+
+        dispatcher.dispatch(roomId, runs::incrementAndGet);
+        dispatcher.release(roomId);
+        dispatcher.dispatch(roomId, runs::incrementAndGet);
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> meterRegistry.get("quiz.ws.dispatch.pending").gauge().value() == 0);
+        dispatcher.dispatch(roomId, runs::incrementAndGet);
+
+        assertThat(runs).hasValue(1);
+    }
+
+    private void awaitGate() {
+        try {
+            gate.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.cmze.internal.ws;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class QuizTopicBridgeTest {
+
+    private static final String CHANNEL = "quiz:ws:topics:test";
+
+    private RedisServer redis;
+    private LettuceConnectionFactory connectionFactory;
+    private final List<Instance> instances = new ArrayList<>();
+
+    @BeforeEach
+    void startRedis() throws IOException {
+        final int port;
+        try (var socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redis = new RedisServer(port);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterEach
+    void stopRedis() throws IOException {
+        instances.forEach(Instance::stop);
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    @Test
+    void topicFramesReachPeerInstanceOnce() {
+        final var first = instance();
+        final var second = instance();
+
+        first.template.convertAndSend("/topic/quiz/room-1", "hello");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> second.received.size() == 1);
+
+        final var delivered = second.received.get(0);
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo("/topic/quiz/room-1");
+        assertThat(delivered.getHeaders()).containsKey(QuizTopicBridge.ORIGIN_HEADER);
+
+        assertThat(first.received).hasSize(1);
+        assertThat(first.count("quiz.ws.bridge.relayed")).isEqualTo(1);
+        assertThat(second.count("quiz.ws.bridge.delivered")).isEqualTo(1);
+    }
+
+    @Test
+    void bridgedFramesAreNotRelayedBack() throws InterruptedException {
+        final var first = instance();
+        final var second = instance();
+
+        first.template.convertAndSend("/topic/quiz/room-1", "one");
+        first.template.convertAndSend("/topic/quiz/room-1", "two");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> second.received.size() == 2);
+        Thread.sleep(300);
+
+        assertThat(second.count("quiz.ws.bridge.relayed")).isZero();
+        assertThat(first.count("quiz.ws.bridge.delivered")).isZero();
+        assertThat(first.received).hasSize(2);
+        assertThat(second.received).hasSize(2);
+    }
+
+    @Test
+    void nonTopicDestinationsStayLocal() throws InterruptedException {
+        final var first = instance();
+        final var second = instance();
+
+        first.template.convertAndSendToUser("user-1", "/queue/quiz-answers", "private");
+        Thread.sleep(300);
+
+        assertThat(first.received).hasSize(1);
+        assertThat(second.received).isEmpty();
+        assertThat(first.count("quiz.ws.bridge.relayed")).isZero();
+    }
+
+    private Instance instance() {
+        final var instance = new Instance(connectionFactory);
+        instances.add(instance);
+        return instance;
+    }
+
+    private static final class Instance {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final List<Message<?>> received = new CopyOnWriteArrayList<>();
+        private final SimpMessagingTemplate template;
+        private final RedisMessageListenerContainer container;
+
+        private Instance(final LettuceConnectionFactory connectionFactory) {
+            final var brokerChannel = new ExecutorSubscribableChannel();
+            brokerChannel.subscribe(received::add);
+            template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new StringMessageConverter());
+
+            final var redisTemplate = new StringRedisTemplate(connectionFactory);
+            final var bridge = new QuizTopicBridge(redisTemplate, template, new ObjectMapper(), meterRegistry, CHANNEL);
+            brokerChannel.addInterceptor(bridge);
+
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(bridge, new ChannelTopic(CHANNEL));
+            container.afterPropertiesSet();
+            container.start();
+        }
+
+        private double count(final String name) {
+            return meterRegistry.counter(name).count();
+        }
+
+        private void stop() {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.cmze.internal.ws;
+
+import com.cmze.internal.ws.messages.LeaderboardDeltaSocketMessage;
+import com.cmze.internal.ws.messages.LeaderboardSocketMessage;
+import com.cmze.spi.helpers.room.LeaderboardEntryDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class StompPayloadEncoderBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StompPayloadEncoder encoder = new StompPayloadEncoder(objectMapper, new SimpleMeterRegistry());
+
+    @Test
+    void leaderboardPayloads() throws Exception {
+        final var top = entries(10, 0);
+        report("leaderboard top-10", objectMapper.writeValueAsBytes(new LeaderboardSocketMessage(top)));
+        report("leaderboard delta", objectMapper.writeValueAsBytes(
+                new LeaderboardDeltaSocketMessage(UUID.randomUUID().toString(), 42, 5_000, top, entries(25, 10))));
+    }
+
+    private void report(final String name, final byte[] json) throws Exception {
+        final byte[] cbor = encoder.transcode(json);
+
+        for (int i = 0; i < WARMUP; i++) {
+            encoder.transcode(json);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encoder.transcode(json);
+        }
+        final long nanos = System.nanoTime() - start;
+
+        System.out.printf("%-20s json=%5d B  cbor=%5d B  (%.0f%%)  transcode=%6d ns/op%n",
+                name, json.length, cbor.length, 100.0 * cbor.length / json.length, nanos / ITERATIONS);
+    }
+
+    private static List<LeaderboardEntryDto> entries(final int count, final int offset) {
+        final var entries = new ArrayList<LeaderboardEntryDto>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new LeaderboardEntryDto(UUID.randomUUID(), "player_" + (offset + i), 10_000 - (offset + i) * 37, offset + i + 1));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,85 @@
+package com.cmze.internal.ws;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StompPayloadEncoderTest {
+
+    private static final byte[] JSON = "{\"event\":\"LEADERBOARD_DELTA\",\"sequence\":3}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StompPayloadEncoder encoder = new StompPayloadEncoder(objectMapper, new SimpleMeterRegistry());
+
+    @Test
+    void broadcastIsTranscodedOnceForAllCborSessions() throws Exception {
+        connect("s1", true);
+        connect("s2", true);
+
+        final var broadcast = encoder.brokerChannelInterceptor().preSend(brokerMessage(), null);
+
+        final var first = encoder.preSend(sessionCopy(broadcast, "s1"), null);
+        final var second = encoder.preSend(sessionCopy(broadcast, "s2"), null);
+
+        assertThat(first.getPayload()).isSameAs(second.getPayload());
+        assertThat(first.getHeaders()).doesNotContainKey(StompPayloadEncoder.CBOR_PAYLOAD_HEADER);
+        assertThat(StompHeaderAccessor.wrap(first).getFirstNativeHeader(StompPayloadEncoder.ENCODING_HEADER))
+                .isEqualTo(StompPayloadEncoder.CBOR);
+        assertThat(new CBORMapper().readTree((byte[]) first.getPayload())).isEqualTo(objectMapper.readTree(JSON));
+    }
+
+    @Test
+    void jsonSessionsKeepTheOriginalPayload() {
+        connect("s1", true);
+        connect("s2", false);
+
+        final var broadcast = encoder.brokerChannelInterceptor().preSend(brokerMessage(), null);
+        final var delivered = encoder.preSend(sessionCopy(broadcast, "s2"), null);
+
+        assertThat(delivered.getPayload()).isSameAs(JSON);
+    }
+
+    @Test
+    void nothingIsPreEncodedWithoutCborSessions() {
+        connect("s1", false);
+
+        final var broadcast = encoder.brokerChannelInterceptor().preSend(brokerMessage(), null);
+
+        assertThat(broadcast.getHeaders()).doesNotContainKey(StompPayloadEncoder.CBOR_PAYLOAD_HEADER);
+    }
+
+    private void connect(final String sessionId, final boolean cbor) {
+        final var accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (cbor) {
+            accessor.setNativeHeader(StompPayloadEncoder.ENCODING_HEADER, StompPayloadEncoder.CBOR);
+        }
+        encoder.negotiate(accessor);
+    }
+
+    private static Message<byte[]> brokerMessage() {
+        final var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/topic/quiz/room-1");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(JSON, accessor.getMessageHeaders());
+    }
+
+    private static Message<?> sessionCopy(final Message<?> broadcast, final String sessionId) {
+        final var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.copyHeadersIfAbsent(broadcast.getHeaders());
+        return MessageBuilder.createMessage(broadcast.getPayload(), accessor.getMessageHeaders());
+    }
+}
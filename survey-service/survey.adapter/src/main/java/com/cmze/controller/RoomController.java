@@ -36,6 +36,7 @@ public class RoomController {
     private final GenerateTokenForUserUseCase generateTokenForUserUseCase;
     private final GetSurveyRoomDetailsUseCase getSurveyRoomDetailsUseCase;
     private final GetMySurveyRoomsResultsUseCase getMySurveyRoomsResultsUseCase;
+    private final GetSurveyOpenAnswersUseCase getSurveyOpenAnswersUseCase;
 
     public RoomController(CreateSurveyRoomUseCase createSurveyRoomUseCase,
                           JoinSurveyRoomUseCase joinSurveyRoomUseCase,
@@ -45,7 +46,8 @@ public class RoomController {
                           InviteUsersForSurveyRoomUseCase inviteUsersForSurveyRoomUseCase,
                           GenerateTokenForUserUseCase generateTokenForUserUseCase,
                           GetSurveyRoomDetailsUseCase getSurveyRoomDetailsUseCase,
-                          GetMySurveyRoomsResultsUseCase getMySurveyRoomsResultsUseCase) {
+                          GetMySurveyRoomsResultsUseCase getMySurveyRoomsResultsUseCase,
+                          GetSurveyOpenAnswersUseCase getSurveyOpenAnswersUseCase) {
         this.createSurveyRoomUseCase = createSurveyRoomUseCase;
         this.joinSurveyRoomUseCase = joinSurveyRoomUseCase;
         this.submitSurveyAttemptUseCase = submitSurveyAttemptUseCase;
@@ -55,6 +57,7 @@ public class RoomController {
         this.generateTokenForUserUseCase = generateTokenForUserUseCase;
         this.getSurveyRoomDetailsUseCase = getSurveyRoomDetailsUseCase;
         this.getMySurveyRoomsResultsUseCase = getMySurveyRoomsResultsUseCase;
+        this.getSurveyOpenAnswersUseCase = getSurveyOpenAnswersUseCase;
     }
 
     @PostMapping
@@ -79,6 +82,19 @@ public class RoomController {
         return result.toResponseEntity(HttpStatus.OK);
     }
 
+    @GetMapping("/{roomId}/questions/{questionId}/open-answers")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getOpenAnswers(
+            @PathVariable final UUID roomId,
+            @PathVariable final Long questionId,
+            @RequestParam(required = false) final Long cursor,
+            @RequestParam(defaultValue = "50") final int limit
+    ) {
+        final var result = getSurveyOpenAnswersUseCase.execute(roomId, questionId, cursor, limit);
+
+        return result.toResponseEntity(HttpStatus.OK);
+    }
+
     @GetMapping("/active")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> getActiveRooms(
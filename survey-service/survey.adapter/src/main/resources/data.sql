@@ -0,0 +1,12 @@
+-- Assign stable choice ids to questions created before choices were dictionary-encoded,
+-- keeping the order in which the choices were stored. Rows that already have an id are left alone.
+ALTER TABLE question_choices ADD COLUMN IF NOT EXISTS choice_id integer;
+
+UPDATE question_choices qc
+SET choice_id = numbered.rn - 1
+FROM (
+    SELECT ctid AS row_ctid, ROW_NUMBER() OVER (PARTITION BY question_id ORDER BY ctid) AS rn
+    FROM question_choices
+    WHERE choice_id IS NULL
+) numbered
+WHERE qc.ctid = numbered.row_ctid;
@@ -0,0 +1,24 @@
+package com.cmze.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetSurveyOpenAnswersResponse {
+    private Long questionId;
+    private List<OpenAnswerItem> items;
+    private Long nextCursor;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class OpenAnswerItem {
+        private Long id;
+        private String answer;
+    }
+}
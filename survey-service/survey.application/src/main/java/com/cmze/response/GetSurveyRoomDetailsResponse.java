@@ -17,5 +17,6 @@ public class GetSurveyRoomDetailsResponse {
     private boolean isOpen;
     private boolean isPrivate;
     private long currentParticipants;
+    private int connectedParticipants;
     private FinalRoomResultDto currentResults;
 }
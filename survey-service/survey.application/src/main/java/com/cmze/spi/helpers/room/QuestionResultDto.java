@@ -17,5 +17,6 @@ public class QuestionResultDto {
     private QuestionType type;
     private Map<String, Long> answerCounts;
 
+    private long openAnswerCount;
     private List<String> openAnswers;
 }
@@ -1,7 +1,18 @@
 package com.cmze.spi.helpers.room;
 
+import com.cmze.entity.ParticipantAnswer;
+
+import java.util.List;
 import java.util.UUID;
 
 public interface SurveyResultCounter {
     FinalRoomResultDto calculate(UUID roomId);
+
+    FinalRoomResultDto calculateLive(UUID roomId);
+
+    void recordEntrant(UUID roomId, Long entrantId);
+
+    void recordSubmission(UUID roomId, Long attemptId, List<ParticipantAnswer> answers);
+
+    void evict(UUID roomId);
 }
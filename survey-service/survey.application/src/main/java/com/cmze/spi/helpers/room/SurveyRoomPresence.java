@@ -0,0 +1,7 @@
+package com.cmze.spi.helpers.room;
+
+import java.util.UUID;
+
+public interface SurveyRoomPresence {
+    int connectedCount(UUID roomId);
+}
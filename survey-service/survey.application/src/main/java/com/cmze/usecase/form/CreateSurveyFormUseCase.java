@@ -46,6 +46,13 @@ public class CreateSurveyFormUseCase {
                             "Question '" + qDto.getTitle() + "' is " + qDto.getType() + " but has no possibleChoices."
                     ));
                 }
+
+                if (isChoiceQuestion && qDto.getPossibleChoices().size() > Short.MAX_VALUE) {
+                    return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                            HttpStatus.BAD_REQUEST,
+                            "Question '" + qDto.getTitle() + "' has too many possibleChoices."
+                    ));
+                }
             }
 
             final var surveyForm = new SurveyForm();
@@ -61,7 +68,7 @@ public class CreateSurveyFormUseCase {
                         q.setSurveyForm(surveyForm);
 
                         if (dto.getType() != QuestionType.OPEN_TEXT) {
-                            q.setPossibleChoices(new HashSet<>(dto.getPossibleChoices()));
+                            q.setPossibleChoices(new ArrayList<>(new LinkedHashSet<>(dto.getPossibleChoices())));
                         }
                         return q;
                     })
@@ -1,10 +1,10 @@
 package com.cmze.usecase.room;
 
 import com.cmze.entity.SurveyRoom;
+import com.cmze.repository.ParticipantAnswerRepository;
 import com.cmze.repository.SurveyRoomRepository;
 import com.cmze.response.MySurveyRoomResultsResponse;
 import com.cmze.shared.ActionResult;
-import com.cmze.spi.helpers.room.SurveyResultCounter;
 import com.cmze.usecase.UseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,12 +22,12 @@ public class GetMySurveyRoomsResultsUseCase {
     private static final Logger logger = LoggerFactory.getLogger(GetMySurveyRoomsResultsUseCase.class);
 
     private final SurveyRoomRepository surveyRoomRepository;
-    private final SurveyResultCounter surveyResultCounter;
+    private final ParticipantAnswerRepository participantAnswerRepository;
 
     public GetMySurveyRoomsResultsUseCase(final SurveyRoomRepository surveyRoomRepository,
-                                          final SurveyResultCounter surveyResultCounter) {
+                                          final ParticipantAnswerRepository participantAnswerRepository) {
         this.surveyRoomRepository = surveyRoomRepository;
-        this.surveyResultCounter = surveyResultCounter;
+        this.participantAnswerRepository = participantAnswerRepository;
     }
 
     @Transactional(readOnly = true)
@@ -50,7 +50,7 @@ public class GetMySurveyRoomsResultsUseCase {
     }
 
     private MySurveyRoomResultsResponse mapToDto(final SurveyRoom room) {
-        final var stats = surveyResultCounter.calculate(room.getId());
+        final var stats = participantAnswerRepository.countTotalsByRoomId(room.getId());
 
         return new MySurveyRoomResultsResponse(
                 room.getId(),
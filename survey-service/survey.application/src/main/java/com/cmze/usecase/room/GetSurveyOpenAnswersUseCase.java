@@ -0,0 +1,85 @@
+package com.cmze.usecase.room;
+
+import com.cmze.enums.QuestionType;
+import com.cmze.repository.ParticipantAnswerRepository;
+import com.cmze.repository.SurveyRoomRepository;
+import com.cmze.response.GetSurveyOpenAnswersResponse;
+import com.cmze.shared.ActionResult;
+import com.cmze.usecase.UseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@UseCase
+public class GetSurveyOpenAnswersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetSurveyOpenAnswersUseCase.class);
+
+    private final SurveyRoomRepository surveyRoomRepository;
+    private final ParticipantAnswerRepository participantAnswerRepository;
+    private final int maxPageSize;
+
+    public GetSurveyOpenAnswersUseCase(final SurveyRoomRepository surveyRoomRepository,
+                                       final ParticipantAnswerRepository participantAnswerRepository,
+                                       @Value("${app.survey.results.open-answers-max-page:100}") final int maxPageSize) {
+        this.surveyRoomRepository = surveyRoomRepository;
+        this.participantAnswerRepository = participantAnswerRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Transactional(readOnly = true)
+    public ActionResult<GetSurveyOpenAnswersResponse> execute(final UUID roomId,
+                                                              final Long questionId,
+                                                              final Long cursor,
+                                                              final int limit) {
+        try {
+            final var roomOpt = surveyRoomRepository.findByIdWithSurveyAndQuestions(roomId);
+
+            if (roomOpt.isEmpty()) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.NOT_FOUND, "Room not found"
+                ));
+            }
+
+            final var question = roomOpt.get().getSurvey().getQuestions().stream()
+                    .filter(q -> q.getId().equals(questionId))
+                    .findFirst();
+
+            if (question.isEmpty()) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.NOT_FOUND, "Question not found in this survey"
+                ));
+            }
+
+            if (question.get().getType() != QuestionType.OPEN_TEXT) {
+                return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.BAD_REQUEST, "Question is not an open text question"
+                ));
+            }
+
+            final int pageSize = Math.min(Math.max(limit, 1), maxPageSize);
+            final long beforeId = cursor != null ? cursor : Long.MAX_VALUE;
+
+            final var items = participantAnswerRepository.findOpenAnswersBefore(roomId, questionId, beforeId, pageSize)
+                    .stream()
+                    .map(view -> new GetSurveyOpenAnswersResponse.OpenAnswerItem(view.getId(), view.getAnswer()))
+                    .toList();
+
+            final Long nextCursor = items.size() == pageSize ? items.get(items.size() - 1).getId() : null;
+
+            return ActionResult.success(new GetSurveyOpenAnswersResponse(questionId, items, nextCursor));
+
+        } catch (Exception e) {
+            logger.error("Failed to fetch open answers for question {} in room {}: {}", questionId, roomId, e.getMessage(), e);
+            return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    "An unexpected error occurred while loading open answers."
+            ));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.cmze.response.GetSurveyRoomDetailsResponse;
 import com.cmze.shared.ActionResult;
 import com.cmze.spi.helpers.room.FinalRoomResultDto;
 import com.cmze.spi.helpers.room.SurveyResultCounter;
+import com.cmze.spi.helpers.room.SurveyRoomPresence;
 import com.cmze.usecase.UseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,11 +23,14 @@ public class GetSurveyRoomDetailsUseCase {
 
     private final SurveyRoomRepository surveyRoomRepository;
     private final SurveyResultCounter surveyResultCounter;
+    private final SurveyRoomPresence surveyRoomPresence;
 
     public GetSurveyRoomDetailsUseCase(final SurveyRoomRepository surveyRoomRepository,
-                                       final SurveyResultCounter surveyResultCounter) {
+                                       final SurveyResultCounter surveyResultCounter,
+                                       final SurveyRoomPresence surveyRoomPresence) {
         this.surveyRoomRepository = surveyRoomRepository;
         this.surveyResultCounter = surveyResultCounter;
+        this.surveyRoomPresence = surveyRoomPresence;
     }
 
     @Transactional(readOnly = true)
@@ -52,6 +56,7 @@ public class GetSurveyRoomDetailsUseCase {
                     room.isOpen(),
                     room.isPrivate(),
                     results.getTotalParticipants(),
+                    surveyRoomPresence.connectedCount(room.getId()),
                     results
             );
 
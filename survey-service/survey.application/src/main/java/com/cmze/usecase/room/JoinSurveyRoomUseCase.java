@@ -11,6 +11,7 @@ import com.cmze.response.GetSurveyResponse.GetSurveyFormResponse;
 import com.cmze.response.JoinSurveyRoomResponse;
 import com.cmze.shared.ActionResult;
 import com.cmze.spi.helpers.invites.SoulboundTokenService;
+import com.cmze.spi.helpers.room.SurveyResultCounter;
 import com.cmze.usecase.UseCase;
 import com.cmze.ws.event.EntrantJoinedEvent;
 import org.slf4j.Logger;
@@ -20,8 +21,10 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,15 +37,18 @@ public class JoinSurveyRoomUseCase {
     private final SurveyEntrantRepository surveyEntrantRepository;
     private final SoulboundTokenService soulboundTokenService;
     private final ApplicationEventPublisher eventPublisher;
+    private final SurveyResultCounter surveyResultCounter;
 
     public JoinSurveyRoomUseCase(final SurveyRoomRepository surveyRoomRepository,
                                  final SurveyEntrantRepository surveyEntrantRepository,
                                  final SoulboundTokenService soulboundTokenService,
-                                 final ApplicationEventPublisher eventPublisher) {
+                                 final ApplicationEventPublisher eventPublisher,
+                                 final SurveyResultCounter surveyResultCounter) {
         this.surveyRoomRepository = surveyRoomRepository;
         this.surveyEntrantRepository = surveyEntrantRepository;
         this.soulboundTokenService = soulboundTokenService;
         this.eventPublisher = eventPublisher;
+        this.surveyResultCounter = surveyResultCounter;
     }
 
     public ActionResult<JoinSurveyRoomResponse> execute(final UUID roomId, final UUID participantUserId, final JoinSurveyRoomRequest request) {
@@ -94,6 +100,9 @@ public class JoinSurveyRoomUseCase {
                 savedParticipant = surveyEntrantRepository.save(newEntrant);
                 logger.info("User {} joined room {}", participantUserId, roomId);
 
+                final Long entrantId = savedParticipant.getId();
+                afterCommit(() -> surveyResultCounter.recordEntrant(roomId, entrantId));
+
                 final long newSize = currentSize + 1;
                 eventPublisher.publishEvent(new EntrantJoinedEvent(this, savedParticipant, newSize));
 
@@ -122,6 +131,19 @@ public class JoinSurveyRoomUseCase {
     }
 
 
+    private void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private boolean isAccessAllowed(final SurveyRoom room, final UUID participantUserId, final String token) {
         if (room.getUserId().equals(participantUserId)) return true;
         if (token != null && !token.isBlank()) {
@@ -140,7 +162,7 @@ public class JoinSurveyRoomUseCase {
                                 q.getId(),
                                 q.getTitle(),
                                 q.getType(),
-                                new HashSet<>(q.getPossibleChoices())
+                                new LinkedHashSet<>(q.getPossibleChoices())
                         )).collect(Collectors.toList())
         );
     }
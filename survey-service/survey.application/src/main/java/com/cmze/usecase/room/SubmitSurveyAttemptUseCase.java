@@ -4,10 +4,12 @@ import com.cmze.entity.ParticipantAnswer;
 import com.cmze.entity.Question;
 import com.cmze.entity.SurveyAttempt;
 import com.cmze.entity.SurveyEntrant;
+import com.cmze.enums.QuestionType;
 import com.cmze.repository.SurveyAttemptRepository;
 import com.cmze.repository.SurveyEntrantRepository;
 import com.cmze.request.SubmitSurveyAttemptRequest.SubmitSurveyAttemptRequest;
 import com.cmze.shared.ActionResult;
+import com.cmze.spi.helpers.room.SurveyResultCounter;
 import com.cmze.usecase.UseCase;
 import com.cmze.ws.event.SurveyAttemptSubmittedEvent;
 import org.slf4j.Logger;
@@ -17,6 +19,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -33,13 +37,16 @@ public class SubmitSurveyAttemptUseCase {
     private final SurveyEntrantRepository surveyEntrantRepository;
     private final SurveyAttemptRepository surveyAttemptRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SurveyResultCounter surveyResultCounter;
 
     public SubmitSurveyAttemptUseCase(final SurveyEntrantRepository surveyEntrantRepository,
                                       final SurveyAttemptRepository surveyAttemptRepository,
-                                      final ApplicationEventPublisher eventPublisher) {
+                                      final ApplicationEventPublisher eventPublisher,
+                                      final SurveyResultCounter surveyResultCounter) {
         this.surveyEntrantRepository = surveyEntrantRepository;
         this.surveyAttemptRepository = surveyAttemptRepository;
         this.eventPublisher = eventPublisher;
+        this.surveyResultCounter = surveyResultCounter;
     }
 
     @Transactional
@@ -86,17 +93,38 @@ public class SubmitSurveyAttemptUseCase {
             surveyAttempt.setParticipant(participant);
             surveyAttempt.setSurvey(participant.getSurveyRoom().getSurvey());
 
-            final var answers = request.getParticipantAnswers().stream()
-                    .map(dto -> {
-                        final var pa = new ParticipantAnswer();
-                        pa.setQuestion(validQuestions.get(dto.getQuestionId()));
-
-                        pa.setAnswer(new ArrayList<>(dto.getAnswers()));
-
-                        pa.setSurveyAttempt(surveyAttempt);
-                        return pa;
-                    })
-                    .collect(Collectors.toList());
+            final var answers = new ArrayList<ParticipantAnswer>(request.getParticipantAnswers().size());
+            for (final var dto : request.getParticipantAnswers()) {
+                final var question = validQuestions.get(dto.getQuestionId());
+
+                final var pa = new ParticipantAnswer();
+                pa.setQuestion(question);
+                pa.setSurveyAttempt(surveyAttempt);
+
+                if (question.getType() == QuestionType.OPEN_TEXT) {
+                    if (dto.getAnswers().size() > 1) {
+                        logger.warn("Submit failed: Multiple open answers for question {} submitted by user {}", question.getId(), participantUserId);
+                        return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                                HttpStatus.BAD_REQUEST, "Only one answer is allowed for open question: " + question.getId()
+                        ));
+                    }
+                    pa.setAnswer(new ArrayList<>(dto.getAnswers()));
+                } else {
+                    final short[] choiceIds = new short[dto.getAnswers().size()];
+                    for (int i = 0; i < choiceIds.length; i++) {
+                        final int choiceId = question.choiceId(dto.getAnswers().get(i));
+                        if (choiceId < 0) {
+                            logger.warn("Submit failed: Unknown choice for question {} submitted by user {}", question.getId(), participantUserId);
+                            return ActionResult.failure(ProblemDetail.forStatusAndDetail(
+                                    HttpStatus.BAD_REQUEST, "Invalid choice provided for question: " + question.getId()
+                            ));
+                        }
+                        choiceIds[i] = (short) choiceId;
+                    }
+                    pa.setChoiceIds(choiceIds);
+                }
+                answers.add(pa);
+            }
 
             surveyAttempt.setParticipantAnswers(answers);
 
@@ -104,6 +132,9 @@ public class SubmitSurveyAttemptUseCase {
 
             logger.info("User {} successfully submitted answers for room {}", participantUserId, roomId);
 
+            final Long attemptId = savedAttempt.getId();
+            afterCommit(() -> surveyResultCounter.recordSubmission(roomId, attemptId, answers));
+
             eventPublisher.publishEvent(new SurveyAttemptSubmittedEvent(this, savedAttempt));
 
             return ActionResult.success(null);
@@ -119,4 +150,17 @@ public class SubmitSurveyAttemptUseCase {
             ));
         }
     }
+
+    private void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +16,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "survey_participant_answers") // Zmieniono nazwę
+@Table(name = "survey_participant_answers", indexes = {
+        @Index(name = "ix_survey_answer_question", columnList = "question_id, id")
+}) // Zmieniono nazwę
 public class ParticipantAnswer {
 
     @Id
@@ -30,6 +34,10 @@ public class ParticipantAnswer {
     @Column(name = "answer")
     private List<String> answer = new ArrayList<>();
 
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "choice_ids", columnDefinition = "smallint[]")
+    private short[] choiceIds;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "survey_attempt_id", nullable = false)
     private SurveyAttempt surveyAttempt;
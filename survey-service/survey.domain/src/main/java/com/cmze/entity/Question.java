@@ -7,8 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Setter
@@ -31,10 +31,19 @@ public class Question {
 
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "question_choices", joinColumns = @JoinColumn(name = "question_id"))
+    @OrderColumn(name = "choice_id")
     @Column(name = "choice")
-    private Set<String> possibleChoices = new HashSet<>();
+    private List<String> possibleChoices = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "survey_form_id", nullable = false)
     private SurveyForm surveyForm;
+
+    public int choiceId(final String choice) {
+        return possibleChoices.indexOf(choice);
+    }
+
+    public String choiceAt(final int choiceId) {
+        return choiceId >= 0 && choiceId < possibleChoices.size() ? possibleChoices.get(choiceId) : null;
+    }
 }
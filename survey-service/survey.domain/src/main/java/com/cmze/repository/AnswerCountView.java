@@ -0,0 +1,7 @@
+package com.cmze.repository;
+
+public interface AnswerCountView {
+    Long getQuestionId();
+    String getAnswer();
+    Long getAnswerCount();
+}
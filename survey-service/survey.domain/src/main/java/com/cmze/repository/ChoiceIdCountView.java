@@ -0,0 +1,7 @@
+package com.cmze.repository;
+
+public interface ChoiceIdCountView {
+    Long getQuestionId();
+    Integer getChoiceId();
+    Long getAnswerCount();
+}
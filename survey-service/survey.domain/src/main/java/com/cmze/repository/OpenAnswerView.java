@@ -0,0 +1,7 @@
+package com.cmze.repository;
+
+public interface OpenAnswerView {
+    Long getId();
+    Long getQuestionId();
+    String getAnswer();
+}
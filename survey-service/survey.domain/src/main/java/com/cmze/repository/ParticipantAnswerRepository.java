@@ -0,0 +1,15 @@
+package com.cmze.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ParticipantAnswerRepository {
+    List<ChoiceIdCountView> countChoiceIdsByRoomId(UUID roomId);
+    List<AnswerCountView> countChoicesByRoomId(UUID roomId);
+    Page<OpenAnswerView> findOpenAnswersByRoomIdAndQuestionId(UUID roomId, Long questionId, Pageable pageable);
+    List<OpenAnswerView> findOpenAnswersBefore(UUID roomId, Long questionId, Long beforeId, int limit);
+    RoomSubmissionTotalsView countTotalsByRoomId(UUID roomId);
+}
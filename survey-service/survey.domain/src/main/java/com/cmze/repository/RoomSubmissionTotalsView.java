@@ -0,0 +1,6 @@
+package com.cmze.repository;
+
+public interface RoomSubmissionTotalsView {
+    Long getTotalParticipants();
+    Long getTotalSubmissions();
+}
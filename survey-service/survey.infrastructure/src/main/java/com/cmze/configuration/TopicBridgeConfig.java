@@ -0,0 +1,35 @@
+package com.cmze.configuration;
+
+import com.cmze.internal.ws.SurveyTopicBridge;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "app.survey.ws.bridge.enabled", havingValue = "true")
+public class TopicBridgeConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final SurveyTopicBridge topicBridge;
+
+    public TopicBridgeConfig(final SurveyTopicBridge topicBridge) {
+        this.topicBridge = topicBridge;
+    }
+
+    @Override
+    public void configureMessageBroker(final MessageBrokerRegistry registry) {
+        registry.configureBrokerChannel().interceptors(topicBridge);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer topicBridgeListenerContainer(final RedisConnectionFactory connectionFactory) {
+        final var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(topicBridge, new ChannelTopic(topicBridge.getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,80 @@
+package com.cmze.external.jpa;
+
+import com.cmze.entity.ParticipantAnswer;
+import com.cmze.repository.AnswerCountView;
+import com.cmze.repository.ChoiceIdCountView;
+import com.cmze.repository.OpenAnswerView;
+import com.cmze.repository.RoomSubmissionTotalsView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ParticipantAnswerJpaRepository extends JpaRepository<ParticipantAnswer, Long> {
+
+    @Query(value = "SELECT pa.question_id AS \"questionId\", CAST(ch.choice_id AS integer) AS \"choiceId\", COUNT(*) AS \"answerCount\" " +
+            "FROM survey_participant_answers pa " +
+            "CROSS JOIN LATERAL unnest(pa.choice_ids) AS ch(choice_id) " +
+            "JOIN survey_attempts sa ON sa.id = pa.survey_attempt_id " +
+            "JOIN survey_room_participants se ON se.id = sa.participant_id " +
+            "WHERE se.survey_room_id = :roomId " +
+            "GROUP BY pa.question_id, ch.choice_id",
+            nativeQuery = true)
+    List<ChoiceIdCountView> countChoiceIdsByRoomId(@Param("roomId") UUID roomId);
+
+    @Query(value = "SELECT pa.question_id AS \"questionId\", c.answer AS \"answer\", COUNT(*) AS \"answerCount\" " +
+            "FROM survey_participant_answers pa " +
+            "JOIN participant_answer_choices c ON c.participant_answer_id = pa.id " +
+            "JOIN survey_attempts sa ON sa.id = pa.survey_attempt_id " +
+            "JOIN survey_room_participants se ON se.id = sa.participant_id " +
+            "JOIN survey_questions q ON q.id = pa.question_id " +
+            "WHERE se.survey_room_id = :roomId AND q.type <> 'OPEN_TEXT' " +
+            "GROUP BY pa.question_id, c.answer",
+            nativeQuery = true)
+    List<AnswerCountView> countChoicesByRoomId(@Param("roomId") UUID roomId);
+
+    @Query(value = "SELECT pa.id AS \"id\", pa.question_id AS \"questionId\", c.answer AS \"answer\" " +
+            "FROM survey_participant_answers pa " +
+            "JOIN participant_answer_choices c ON c.participant_answer_id = pa.id " +
+            "JOIN survey_attempts sa ON sa.id = pa.survey_attempt_id " +
+            "JOIN survey_room_participants se ON se.id = sa.participant_id " +
+            "WHERE se.survey_room_id = :roomId AND pa.question_id = :questionId " +
+            "ORDER BY pa.id DESC",
+            countQuery = "SELECT COUNT(*) " +
+                    "FROM survey_participant_answers pa " +
+                    "JOIN participant_answer_choices c ON c.participant_answer_id = pa.id " +
+                    "JOIN survey_attempts sa ON sa.id = pa.survey_attempt_id " +
+                    "JOIN survey_room_participants se ON se.id = sa.participant_id " +
+                    "WHERE se.survey_room_id = :roomId AND pa.question_id = :questionId",
+            nativeQuery = true)
+    Page<OpenAnswerView> findOpenAnswersByRoomIdAndQuestionId(@Param("roomId") UUID roomId,
+                                                               @Param("questionId") Long questionId,
+                                                               Pageable pageable);
+
+    // one row per answer: rows stored before open questions were limited to a single value are joined
+    @Query(value = "SELECT pa.id AS \"id\", pa.question_id AS \"questionId\", string_agg(c.answer, E'\\n') AS \"answer\" " +
+            "FROM survey_participant_answers pa " +
+            "JOIN participant_answer_choices c ON c.participant_answer_id = pa.id " +
+            "JOIN survey_attempts sa ON sa.id = pa.survey_attempt_id " +
+            "JOIN survey_room_participants se ON se.id = sa.participant_id " +
+            "WHERE pa.question_id = :questionId AND pa.id < :beforeId AND se.survey_room_id = :roomId " +
+            "GROUP BY pa.id, pa.question_id " +
+            "ORDER BY pa.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<OpenAnswerView> findOpenAnswersBefore(@Param("roomId") UUID roomId,
+                                               @Param("questionId") Long questionId,
+                                               @Param("beforeId") Long beforeId,
+                                               @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(se.id) AS \"totalParticipants\", COUNT(sa.id) AS \"totalSubmissions\" " +
+            "FROM survey_room_participants se " +
+            "LEFT JOIN survey_attempts sa ON sa.participant_id = se.id " +
+            "WHERE se.survey_room_id = :roomId",
+            nativeQuery = true)
+    RoomSubmissionTotalsView countTotalsByRoomId(@Param("roomId") UUID roomId);
+}
@@ -6,15 +6,15 @@ import com.cmze.ws.event.EntrantJoinedEvent;
 import com.cmze.ws.event.InvitationsGeneratedEvent;
 import com.cmze.ws.event.RoomClosedEvent;
 import com.cmze.ws.event.SurveyAttemptSubmittedEvent;
-import com.cmze.internal.ws.messages.LiveResultUpdateSocketMessage;
 import com.cmze.internal.ws.messages.RoomClosedSocketMessage;
-import com.cmze.internal.ws.messages.UserJoinedSocketMessage;
+import com.cmze.internal.ws.messages.UsersJoinedSocketMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.UUID;
 
 @Service
 public class SurveyEventWebSocketNotifier {
@@ -23,71 +23,84 @@ public class SurveyEventWebSocketNotifier {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final SurveyResultCounter resultsCounter;
+    private final SurveyJoinCoalescer joinCoalescer;
+    private final SurveyBroadcastDispatcher dispatcher;
+    private final SurveyResultsThrottle resultsThrottle;
 
     public SurveyEventWebSocketNotifier(final SimpMessagingTemplate messagingTemplate,
-                                        final SurveyResultCounter resultsCounter) {
+                                        final SurveyResultCounter resultsCounter,
+                                        final SurveyJoinCoalescer joinCoalescer,
+                                        final SurveyBroadcastDispatcher dispatcher,
+                                        final SurveyResultsThrottle resultsThrottle) {
         this.messagingTemplate = messagingTemplate;
         this.resultsCounter = resultsCounter;
+        this.joinCoalescer = joinCoalescer;
+        this.dispatcher = dispatcher;
+        this.resultsThrottle = resultsThrottle;
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleParticipantJoined(final EntrantJoinedEvent event) {
         final var participant = event.getParticipant();
         final var roomId = participant.getSurveyRoom().getId();
-        final var topic = "/topic/survey/" + roomId;
 
-        final var payload = new UserJoinedSocketMessage(
+        final var joined = new UsersJoinedSocketMessage.JoinedUser(
                 participant.getId(),
-                participant.getUserId(),
-                event.getNewParticipantCount()
+                participant.getUserId()
         );
 
-        logger.info("Sending USER_JOINED to {}: userId {}", topic, participant.getUserId());
-        messagingTemplate.convertAndSend(topic, payload);
+        logger.info("Queueing USER_JOINED for survey room {}: userId {}", roomId, participant.getUserId());
+        joinCoalescer.add(roomId, joined, event.getNewParticipantCount());
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleSurveySubmitted(final SurveyAttemptSubmittedEvent event) {
         final var roomId = event.getSurveyAttempt().getParticipant().getSurveyRoom().getId();
-        final var topic = "/topic/survey/" + roomId;
-
-        final var liveResults = resultsCounter.calculate(roomId);
 
-        final var payload = new LiveResultUpdateSocketMessage(liveResults);
-
-        logger.info("Sending LIVE_RESULTS_UPDATE to {}: {} submissions", topic, liveResults.getTotalSubmissions());
-        messagingTemplate.convertAndSend(topic, payload);
+        resultsThrottle.markDirty(roomId);
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleRoomClosed(final RoomClosedEvent event) {
         final var roomId = event.getRoom().getId();
         final var topic = "/topic/survey/" + roomId;
 
-        final var finalResults = resultsCounter.calculate(roomId);
+        resultsThrottle.release(roomId);
+        try {
+            dispatcher.dispatch(roomId, () -> {
+                joinCoalescer.flush(roomId);
+
+                resultsCounter.evict(roomId);
+                final var finalResults = resultsCounter.calculate(roomId);
 
-        final var payload = new RoomClosedSocketMessage(finalResults);
+                final var payload = new RoomClosedSocketMessage(finalResults);
 
-        logger.info("Sending ROOM_CLOSED to {}: {} participants", topic, finalResults.getTotalParticipants());
-        messagingTemplate.convertAndSend(topic, payload);
+                logger.info("Sending ROOM_CLOSED to {}: {} participants", topic, finalResults.getTotalParticipants());
+                messagingTemplate.convertAndSend(topic, payload);
+            });
+        } finally {
+            dispatcher.release(roomId);
+        }
     }
 
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleInvitationsGenerated(final InvitationsGeneratedEvent event) {
-        logger.info("Processing generated invitations for room {}", event.getRoomId());
-
-        event.getInvitations().forEach((userId, token) -> {
-            final var payload = new InvitationSocketMessage(
-                    event.getRoomId(),
-                    event.getSurveyTitle(),
-                    token
-            );
-
-            messagingTemplate.convertAndSendToUser(
-                    userId.toString(),
-                    "/queue/invitations",
-                    payload
-            );
+        dispatcher.dispatch(UUID.fromString(event.getRoomId()), () -> {
+            logger.info("Processing generated invitations for room {}", event.getRoomId());
+
+            event.getInvitations().forEach((userId, token) -> {
+                final var payload = new InvitationSocketMessage(
+                        event.getRoomId(),
+                        event.getSurveyTitle(),
+                        token
+                );
+
+                messagingTemplate.convertAndSendToUser(
+                        userId.toString(),
+                        "/queue/invitations",
+                        payload
+                );
+            });
         });
     }
 }
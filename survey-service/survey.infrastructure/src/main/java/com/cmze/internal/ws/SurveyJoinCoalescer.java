@@ -0,0 +1,122 @@
+package com.cmze.internal.ws;
+
+import com.cmze.internal.ws.messages.UserJoinedSocketMessage;
+import com.cmze.internal.ws.messages.UsersJoinedSocketMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SurveyJoinCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SurveyJoinCoalescer.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SurveyBroadcastDispatcher dispatcher;
+    private final long windowMs;
+    private final Counter framesSaved;
+    private final Map<UUID, PendingJoins> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+
+    public SurveyJoinCoalescer(final SimpMessagingTemplate messagingTemplate,
+                               final SurveyBroadcastDispatcher dispatcher,
+                               final MeterRegistry meterRegistry,
+                               @Value("${app.survey.ws.join-window-ms:150}") final long windowMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.dispatcher = dispatcher;
+        this.windowMs = windowMs;
+        this.framesSaved = Counter.builder("survey.ws.join.frames.saved")
+                .description("USER_JOINED frames folded into batched USERS_JOINED broadcasts")
+                .register(meterRegistry);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "survey-join-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void add(final UUID roomId, final UsersJoinedSocketMessage.JoinedUser user, final long totalParticipants) {
+        if (windowMs <= 0) {
+            dispatcher.dispatch(roomId, () -> send(roomId, List.of(user), totalParticipants));
+            return;
+        }
+
+        final var opened = new boolean[1];
+
+        pending.compute(roomId, (id, joins) -> {
+            if (joins == null) {
+                joins = new PendingJoins();
+                opened[0] = true;
+            }
+            joins.users.add(user);
+            joins.totalParticipants = Math.max(joins.totalParticipants, totalParticipants);
+            return joins;
+        });
+
+        if (opened[0]) {
+            executor.schedule(() -> dispatchFlush(roomId), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void flush(final UUID roomId) {
+        final var joins = pending.remove(roomId);
+        if (joins == null) {
+            return;
+        }
+
+        try {
+            send(roomId, joins.users, joins.totalParticipants);
+        } catch (Exception e) {
+            logger.error("Failed to broadcast {} joins for survey room {}", joins.users.size(), roomId, e);
+        }
+    }
+
+    private void dispatchFlush(final UUID roomId) {
+        if (pending.containsKey(roomId)) {
+            dispatcher.dispatch(roomId, () -> flush(roomId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+
+    private void send(final UUID roomId, final List<UsersJoinedSocketMessage.JoinedUser> users, final long totalParticipants) {
+        final var topic = "/topic/survey/" + roomId;
+
+        if (users.size() == 1) {
+            final var user = users.get(0);
+            messagingTemplate.convertAndSend(topic, new UserJoinedSocketMessage(
+                    user.getParticipantId(),
+                    user.getUserId(),
+                    totalParticipants
+            ));
+            return;
+        }
+
+        messagingTemplate.convertAndSend(topic, new UsersJoinedSocketMessage(users, totalParticipants));
+        framesSaved.increment(users.size() - 1);
+        logger.debug("Sending USERS_JOINED to {}: {} joins coalesced", topic, users.size());
+    }
+
+    private static final class PendingJoins {
+        private final List<UsersJoinedSocketMessage.JoinedUser> users = new ArrayList<>();
+        private long totalParticipants;
+    }
+}
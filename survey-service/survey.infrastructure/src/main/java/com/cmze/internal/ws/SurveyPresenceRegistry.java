@@ -0,0 +1,188 @@
+package com.cmze.internal.ws;
+
+import com.cmze.spi.helpers.room.SurveyRoomPresence;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class SurveyPresenceRegistry implements SurveyRoomPresence {
+
+    private static final Logger logger = LoggerFactory.getLogger(SurveyPresenceRegistry.class);
+
+    private static final String TOPIC_PREFIX = "/topic/survey/";
+
+    private final long graceMs;
+    private final Map<UUID, RoomPresence> rooms = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+
+    public SurveyPresenceRegistry(final MeterRegistry meterRegistry,
+                                @Value("${app.survey.presence.grace-ms:15000}") final long graceMs) {
+        this.graceMs = graceMs;
+
+        Gauge.builder("survey.presence.sessions", sessions, Map::size)
+                .description("STOMP sessions subscribed to at least one survey room")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int connectedCount(final UUID roomId) {
+        final var room = rooms.get(roomId);
+        return room != null ? room.size() : 0;
+    }
+
+    @EventListener
+    public void handleSubscribe(final SessionSubscribeEvent event) {
+        final var accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        final var roomId = roomId(accessor.getDestination());
+        final var userId = userId(event.getUser());
+
+        if (roomId == null || userId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        final var previous = sessions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), new Subscription(roomId, userId));
+        if (previous == null) {
+            rooms.compute(roomId, (id, room) -> {
+                final var current = room != null ? room : new RoomPresence();
+                current.attach(userId);
+                return current;
+            });
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(final SessionUnsubscribeEvent event) {
+        final var accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        final var subscriptions = accessor.getSessionId() != null ? sessions.get(accessor.getSessionId()) : null;
+
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        final var subscription = subscriptions.remove(accessor.getSubscriptionId());
+        if (subscription != null) {
+            detach(subscription);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(final SessionDisconnectEvent event) {
+        final var subscriptions = sessions.remove(event.getSessionId());
+
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::detach);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.survey.presence.sweep-interval-ms:1000}")
+    public void sweep() {
+        final long cutoff = System.currentTimeMillis() - graceMs;
+
+        rooms.forEach((roomId, room) -> {
+            final int expired = room.expire(cutoff);
+            if (expired > 0) {
+                logger.debug("{} participants left survey room {} after the grace period", expired, roomId);
+            }
+            if (room.isEmpty()) {
+                rooms.computeIfPresent(roomId, (id, current) -> current.isEmpty() ? null : current);
+            }
+        });
+    }
+
+    private void detach(final Subscription subscription) {
+        final var room = rooms.get(subscription.roomId());
+        if (room != null) {
+            room.detach(subscription.userId(), System.currentTimeMillis());
+        }
+    }
+
+    private static UUID roomId(final String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(TOPIC_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static UUID userId(final Principal principal) {
+        if (principal == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(principal.getName());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record Subscription(UUID roomId, UUID userId) {
+    }
+
+    private static final class RoomPresence {
+
+        private final Map<UUID, Presence> users = new ConcurrentHashMap<>();
+
+        void attach(final UUID userId) {
+            users.compute(userId, (id, presence) -> {
+                final var current = presence != null ? presence : new Presence();
+                current.sessions++;
+                current.leftAt = 0;
+                return current;
+            });
+        }
+
+        void detach(final UUID userId, final long now) {
+            users.computeIfPresent(userId, (id, presence) -> {
+                presence.sessions = Math.max(0, presence.sessions - 1);
+                if (presence.sessions == 0) {
+                    presence.leftAt = now;
+                }
+                return presence;
+            });
+        }
+
+        int expire(final long cutoff) {
+            int expired = 0;
+            for (final var userId : users.keySet()) {
+                final var remaining = users.computeIfPresent(userId, (id, presence) ->
+                        presence.sessions == 0 && presence.leftAt <= cutoff ? null : presence);
+                if (remaining == null) {
+                    expired++;
+                }
+            }
+            return expired;
+        }
+
+        int size() {
+            return users.size();
+        }
+
+        boolean isEmpty() {
+            return users.isEmpty();
+        }
+    }
+
+    private static final class Presence {
+        private int sessions;
+        private long leftAt;
+    }
+}
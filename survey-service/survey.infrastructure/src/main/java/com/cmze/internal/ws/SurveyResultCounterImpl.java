@@ -2,89 +2,295 @@ package com.cmze.internal.ws;
 
 import com.cmze.entity.*;
 import com.cmze.enums.QuestionType;
+import com.cmze.repository.OpenAnswerView;
+import com.cmze.repository.ParticipantAnswerRepository;
 import com.cmze.repository.SurveyEntrantRepository;
 import com.cmze.repository.SurveyRoomRepository;
 import com.cmze.spi.helpers.room.FinalRoomResultDto;
 import com.cmze.spi.helpers.room.QuestionResultDto;
 import com.cmze.spi.helpers.room.SurveyResultCounter;
 import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
-@Transactional(readOnly = true)
 public class SurveyResultCounterImpl implements SurveyResultCounter {
 
+    private static final Logger logger = LoggerFactory.getLogger(SurveyResultCounterImpl.class);
+
     private final SurveyRoomRepository surveyRoomRepository;
     private final SurveyEntrantRepository surveyEntrantRepository;
+    private final ParticipantAnswerRepository participantAnswerRepository;
+    private final int openAnswersLatest;
+
+    private final Map<UUID, RoomTally> tallies = new ConcurrentHashMap<>();
 
     public SurveyResultCounterImpl(final SurveyRoomRepository surveyRoomRepository,
-                                   final SurveyEntrantRepository surveyEntrantRepository) {
+                                   final SurveyEntrantRepository surveyEntrantRepository,
+                                   final ParticipantAnswerRepository participantAnswerRepository,
+                                   @Value("${app.survey.results.open-answers-latest:20}") final int openAnswersLatest) {
         this.surveyRoomRepository = surveyRoomRepository;
         this.surveyEntrantRepository = surveyEntrantRepository;
+        this.participantAnswerRepository = participantAnswerRepository;
+        this.openAnswersLatest = openAnswersLatest;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public FinalRoomResultDto calculate(final UUID roomId) {
-        final var room = surveyRoomRepository.findByIdWithSurveyAndQuestions(roomId)
+        final var cached = tallies.get(roomId);
+        if (cached != null) {
+            return cached.snapshot();
+        }
+
+        return aggregate(findRoom(roomId));
+    }
+
+    // Only the room's owner (the live results lane) may seed the tally; any other
+    // instance would never see the evict on close and keep serving frozen counts.
+    @Override
+    @Transactional(readOnly = true)
+    public FinalRoomResultDto calculateLive(final UUID roomId) {
+        final var cached = tallies.get(roomId);
+        if (cached != null) {
+            return cached.snapshot();
+        }
+
+        final var room = findRoom(roomId);
+
+        if (!room.isOpen()) {
+            return aggregate(room);
+        }
+
+        return tallies.computeIfAbsent(roomId, id -> rebuild(room)).snapshot();
+    }
+
+    @Override
+    public void recordEntrant(final UUID roomId, final Long entrantId) {
+        tallies.computeIfPresent(roomId, (id, tally) -> {
+            tally.entrants.add(entrantId);
+            return tally;
+        });
+    }
+
+    @Override
+    public void recordSubmission(final UUID roomId, final Long attemptId, final List<ParticipantAnswer> answers) {
+        tallies.computeIfPresent(roomId, (id, tally) -> {
+            if (tally.attempts.add(attemptId)) {
+                answers.forEach(tally::count);
+            }
+            return tally;
+        });
+    }
+
+    @Override
+    public void evict(final UUID roomId) {
+        tallies.remove(roomId);
+    }
+
+    private SurveyRoom findRoom(final UUID roomId) {
+        return surveyRoomRepository.findByIdWithSurveyAndQuestions(roomId)
                 .orElseThrow(() -> new EntityNotFoundException("SurveyRoom not found with id: " + roomId));
+    }
 
-        final var participants = surveyEntrantRepository.findAllBySurveyRoomId(roomId);
+    private FinalRoomResultDto aggregate(final SurveyRoom room) {
+        final var roomId = room.getId();
 
-        final var submissions = participants.stream()
-                .map(SurveyEntrant::getSurveyAttempt)
-                .filter(Objects::nonNull)
-                .toList();
+        final Map<Long, Question> questionsById = new HashMap<>();
+        for (final var question : room.getSurvey().getQuestions()) {
+            questionsById.put(question.getId(), question);
+        }
 
+        final Map<Long, Map<String, Long>> countsByQuestionId = new HashMap<>();
+        for (final var row : participantAnswerRepository.countChoiceIdsByRoomId(roomId)) {
+            final var question = questionsById.get(row.getQuestionId());
+            final var choice = question != null ? question.choiceAt(row.getChoiceId()) : null;
+            if (choice != null) {
+                countsByQuestionId.computeIfAbsent(row.getQuestionId(), id -> new HashMap<>())
+                        .merge(choice, row.getAnswerCount(), Long::sum);
+            }
+        }
+        // answers stored before choice ids were introduced still carry the choice text
+        for (final var row : participantAnswerRepository.countChoicesByRoomId(roomId)) {
+            countsByQuestionId.computeIfAbsent(row.getQuestionId(), id -> new HashMap<>())
+                    .merge(row.getAnswer(), row.getAnswerCount(), Long::sum);
+        }
 
-        final Map<Long, List<ParticipantAnswer>> answersByQuestionId = submissions.stream()
-                .flatMap(submission -> submission.getParticipantAnswers().stream())
-                .collect(Collectors.groupingBy(
-                        answer -> answer.getQuestion().getId()
-                ));
+        final var results = new ArrayList<QuestionResultDto>(room.getSurvey().getQuestions().size());
+        for (final var question : room.getSurvey().getQuestions()) {
+            final var dto = new QuestionResultDto();
+            dto.setQuestionId(question.getId());
+            dto.setTitle(question.getTitle());
+            dto.setType(question.getType());
 
-        final var questionResults = room.getSurvey().getQuestions().stream()
-                .map(question -> {
-                    final var answers = answersByQuestionId.getOrDefault(question.getId(), List.of());
-                    return mapToQuestionResultDto(question, answers);
-                })
-                .collect(Collectors.toList());
+            if (question.getType() == QuestionType.OPEN_TEXT) {
+                final var page = participantAnswerRepository.findOpenAnswersByRoomIdAndQuestionId(
+                        roomId, question.getId(), PageRequest.of(0, Math.max(openAnswersLatest, 1)));
+
+                dto.setOpenAnswerCount(page.getTotalElements());
+                dto.setOpenAnswers(openAnswersLatest > 0 ? page.map(OpenAnswerView::getAnswer).getContent() : new ArrayList<>());
+                dto.setAnswerCounts(new HashMap<>());
+            } else {
+                dto.setAnswerCounts(countsByQuestionId.getOrDefault(question.getId(), new HashMap<>()));
+                dto.setOpenAnswers(new ArrayList<>());
+            }
+            results.add(dto);
+        }
+
+        final var totals = participantAnswerRepository.countTotalsByRoomId(roomId);
 
         return new FinalRoomResultDto(
-                (long) participants.size(),
-                (long) submissions.size(),
-                questionResults
+                totals.getTotalParticipants(),
+                totals.getTotalSubmissions(),
+                results
         );
     }
 
-    private QuestionResultDto mapToQuestionResultDto(final Question question, final List<ParticipantAnswer> answers) {
-        final var dto = new QuestionResultDto();
-        dto.setQuestionId(question.getId());
-        dto.setTitle(question.getTitle());
-        dto.setType(question.getType());
-
-        final var allSelectedValues = answers.stream()
-                .flatMap(pa -> pa.getAnswer().stream())
-                .toList();
-
-        if (question.getType() == QuestionType.OPEN_TEXT) {
-            dto.setOpenAnswers(allSelectedValues);
-            dto.setAnswerCounts(new HashMap<>());
-        } else {
-            final var counts = allSelectedValues.stream()
-                    .collect(Collectors.groupingBy(
-                            Function.identity(),
-                            Collectors.counting()
-                    ));
-
-            dto.setAnswerCounts(counts);
-            dto.setOpenAnswers(new ArrayList<>());
+    private RoomTally rebuild(final SurveyRoom room) {
+        final var tally = new RoomTally(room.getSurvey().getQuestions(), openAnswersLatest);
+
+        final var participants = surveyEntrantRepository.findAllBySurveyRoomId(room.getId());
+
+        for (final var participant : participants) {
+            tally.entrants.add(participant.getId());
+
+            final var attempt = participant.getSurveyAttempt();
+            if (attempt != null && tally.attempts.add(attempt.getId())) {
+                attempt.getParticipantAnswers().forEach(tally::count);
+            }
+        }
+
+        logger.debug("Rebuilt result tallies for survey room {} from {} participants", room.getId(), participants.size());
+        return tally;
+    }
+
+    private static final class RoomTally {
+
+        private final Map<Long, QuestionTally> questions = new LinkedHashMap<>();
+        private final Set<Long> entrants = ConcurrentHashMap.newKeySet();
+        private final Set<Long> attempts = ConcurrentHashMap.newKeySet();
+
+        private RoomTally(final Collection<Question> surveyQuestions, final int openAnswersLatest) {
+            for (final var question : surveyQuestions) {
+                questions.put(question.getId(), new QuestionTally(question, openAnswersLatest));
+            }
         }
 
-        return dto;
+        private void count(final ParticipantAnswer answer) {
+            final var question = questions.get(answer.getQuestion().getId());
+            if (question != null) {
+                question.count(answer);
+            }
+        }
+
+        private FinalRoomResultDto snapshot() {
+            final var results = new ArrayList<QuestionResultDto>(questions.size());
+            for (final var question : questions.values()) {
+                results.add(question.snapshot());
+            }
+
+            return new FinalRoomResultDto(
+                    (long) entrants.size(),
+                    (long) attempts.size(),
+                    results
+            );
+        }
+    }
+
+    private static final class QuestionTally {
+
+        private final Long questionId;
+        private final String title;
+        private final QuestionType type;
+        private final String[] choices;
+        private final Map<String, Integer> choiceIds = new HashMap<>();
+        private final AtomicIntegerArray choiceCounts;
+        private final LongAdder openAnswerCount = new LongAdder();
+        private final Deque<String> latestOpenAnswers = new ArrayDeque<>();
+        private final int openAnswersLatest;
+
+        private QuestionTally(final Question question, final int openAnswersLatest) {
+            this.questionId = question.getId();
+            this.title = question.getTitle();
+            this.type = question.getType();
+            this.openAnswersLatest = openAnswersLatest;
+            this.choices = question.getPossibleChoices().toArray(new String[0]);
+            this.choiceCounts = new AtomicIntegerArray(choices.length);
+            for (int i = 0; i < choices.length; i++) {
+                choiceIds.put(choices[i], i);
+            }
+        }
+
+        private void count(final ParticipantAnswer answer) {
+            if (type == QuestionType.OPEN_TEXT) {
+                final var values = answer.getAnswer();
+                openAnswerCount.add(values.size());
+                if (openAnswersLatest > 0) {
+                    synchronized (latestOpenAnswers) {
+                        for (final var value : values) {
+                            if (latestOpenAnswers.size() == openAnswersLatest) {
+                                latestOpenAnswers.pollFirst();
+                            }
+                            latestOpenAnswers.addLast(value);
+                        }
+                    }
+                }
+                return;
+            }
+            if (answer.getChoiceIds() != null) {
+                for (final short choiceId : answer.getChoiceIds()) {
+                    if (choiceId >= 0 && choiceId < choices.length) {
+                        choiceCounts.incrementAndGet(choiceId);
+                    }
+                }
+                return;
+            }
+            for (final var value : answer.getAnswer()) {
+                final var choiceId = choiceIds.get(value);
+                if (choiceId != null) {
+                    choiceCounts.incrementAndGet(choiceId);
+                }
+            }
+        }
+
+        private QuestionResultDto snapshot() {
+            final var dto = new QuestionResultDto();
+            dto.setQuestionId(questionId);
+            dto.setTitle(title);
+            dto.setType(type);
+
+            if (type == QuestionType.OPEN_TEXT) {
+                final List<String> latest;
+                synchronized (latestOpenAnswers) {
+                    latest = new ArrayList<>(latestOpenAnswers);
+                }
+                Collections.reverse(latest);
+
+                dto.setOpenAnswerCount(openAnswerCount.sum());
+                dto.setOpenAnswers(latest);
+                dto.setAnswerCounts(new HashMap<>());
+            } else {
+                final var snapshot = new HashMap<String, Long>(choices.length * 2);
+                for (int i = 0; i < choices.length; i++) {
+                    final int count = choiceCounts.get(i);
+                    if (count > 0) {
+                        snapshot.put(choices[i], (long) count);
+                    }
+                }
+
+                dto.setAnswerCounts(snapshot);
+                dto.setOpenAnswers(new ArrayList<>());
+            }
+            return dto;
+        }
     }
 }
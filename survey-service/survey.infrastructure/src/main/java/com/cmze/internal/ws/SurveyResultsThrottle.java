@@ -0,0 +1,135 @@
+package com.cmze.internal.ws;
+
+import com.cmze.internal.ws.messages.LiveResultUpdateSocketMessage;
+import com.cmze.spi.helpers.room.SurveyResultCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class SurveyResultsThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(SurveyResultsThrottle.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SurveyResultCounter resultsCounter;
+    private final SurveyBroadcastDispatcher dispatcher;
+    private final long intervalMs;
+    private final long closedRetentionMs;
+    private final Map<UUID, RoomTicker> rooms = new ConcurrentHashMap<>();
+    private final Set<UUID> closedRooms = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService executor;
+
+    private final Counter sent;
+    private final Counter suppressed;
+
+    public SurveyResultsThrottle(final SimpMessagingTemplate messagingTemplate,
+                                 final SurveyResultCounter resultsCounter,
+                                 final SurveyBroadcastDispatcher dispatcher,
+                                 final MeterRegistry meterRegistry,
+                                 @Value("${app.survey.ws.results-interval-ms:250}") final long intervalMs,
+                                 @Value("${app.survey.ws.results-closed-retention-ms:60000}") final long closedRetentionMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.resultsCounter = resultsCounter;
+        this.dispatcher = dispatcher;
+        this.intervalMs = intervalMs;
+        this.closedRetentionMs = closedRetentionMs;
+        this.sent = Counter.builder("survey.ws.results.sent")
+                .description("LIVE_RESULTS_UPDATE frames broadcast")
+                .register(meterRegistry);
+        this.suppressed = Counter.builder("survey.ws.results.suppressed")
+                .description("Result changes folded into an already pending LIVE_RESULTS_UPDATE")
+                .register(meterRegistry);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "survey-results-throttle");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void markDirty(final UUID roomId) {
+        if (closedRooms.contains(roomId)) {
+            return;
+        }
+
+        if (intervalMs <= 0) {
+            publish(roomId);
+            return;
+        }
+
+        final var ticker = rooms.computeIfAbsent(roomId, id -> new RoomTicker());
+
+        // release() may have run between the check above and the insert
+        if (closedRooms.contains(roomId)) {
+            rooms.remove(roomId, ticker);
+            return;
+        }
+
+        if (ticker.dirty.getAndSet(true)) {
+            suppressed.increment();
+        }
+
+        if (ticker.scheduled.compareAndSet(false, true)) {
+            final long delay = Math.max(0, ticker.lastSentAt + intervalMs - System.currentTimeMillis());
+            executor.schedule(() -> tick(roomId, ticker), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void release(final UUID roomId) {
+        closedRooms.add(roomId);
+        rooms.remove(roomId);
+        executor.schedule(() -> closedRooms.remove(roomId), closedRetentionMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void tick(final UUID roomId, final RoomTicker ticker) {
+        ticker.scheduled.set(false);
+
+        if (rooms.get(roomId) != ticker || !ticker.dirty.getAndSet(false)) {
+            return;
+        }
+
+        ticker.lastSentAt = System.currentTimeMillis();
+        publish(roomId);
+    }
+
+    private void publish(final UUID roomId) {
+        final var topic = "/topic/survey/" + roomId;
+
+        if (closedRooms.contains(roomId)) {
+            return;
+        }
+
+        dispatcher.dispatch(roomId, () -> {
+            final var liveResults = resultsCounter.calculateLive(roomId);
+
+            logger.debug("Sending LIVE_RESULTS_UPDATE to {}: {} submissions", topic, liveResults.getTotalSubmissions());
+            messagingTemplate.convertAndSend(topic, new LiveResultUpdateSocketMessage(liveResults));
+            sent.increment();
+        });
+    }
+
+    private static final class RoomTicker {
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long lastSentAt;
+    }
+}
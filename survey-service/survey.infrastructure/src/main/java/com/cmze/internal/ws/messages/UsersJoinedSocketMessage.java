@@ -0,0 +1,30 @@
+package com.cmze.internal.ws.messages;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+public class UsersJoinedSocketMessage {
+
+    private String event = "USERS_JOINED";
+    private List<JoinedUser> users;
+    private long newParticipantCount;
+
+    public UsersJoinedSocketMessage(List<JoinedUser> users, long newParticipantCount) {
+        this.users = users;
+        this.newParticipantCount = newParticipantCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JoinedUser {
+        private Long participantId;
+        private UUID userId;
+    }
+}
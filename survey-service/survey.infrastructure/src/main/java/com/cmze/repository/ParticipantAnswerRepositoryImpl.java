@@ -0,0 +1,46 @@
+package com.cmze.repository;
+
+import com.cmze.external.jpa.ParticipantAnswerJpaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class ParticipantAnswerRepositoryImpl implements ParticipantAnswerRepository {
+
+    private final ParticipantAnswerJpaRepository impl;
+
+    @Autowired
+    public ParticipantAnswerRepositoryImpl(ParticipantAnswerJpaRepository impl) {
+        this.impl = impl;
+    }
+
+    @Override
+    public List<ChoiceIdCountView> countChoiceIdsByRoomId(UUID roomId) {
+        return impl.countChoiceIdsByRoomId(roomId);
+    }
+
+    @Override
+    public List<AnswerCountView> countChoicesByRoomId(UUID roomId) {
+        return impl.countChoicesByRoomId(roomId);
+    }
+
+    @Override
+    public Page<OpenAnswerView> findOpenAnswersByRoomIdAndQuestionId(UUID roomId, Long questionId, Pageable pageable) {
+        return impl.findOpenAnswersByRoomIdAndQuestionId(roomId, questionId, pageable);
+    }
+
+    @Override
+    public List<OpenAnswerView> findOpenAnswersBefore(UUID roomId, Long questionId, Long beforeId, int limit) {
+        return impl.findOpenAnswersBefore(roomId, questionId, beforeId, limit);
+    }
+
+    @Override
+    public RoomSubmissionTotalsView countTotalsByRoomId(UUID roomId) {
+        return impl.countTotalsByRoomId(roomId);
+    }
+}
@@ -0,0 +1,86 @@
+package com.cmze.external.jpa;
+
+import com.cmze.entity.SurveyRoom;
+import com.cmze.enums.QuestionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = SurveyJpaTestConfiguration.class)
+class ParticipantAnswerAggregationBenchmark {
+
+    private static final int ATTEMPTS = 10_000;
+    private static final int BATCH = 500;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ParticipantAnswerJpaRepository participantAnswerJpaRepository;
+
+    @Autowired
+    private SurveyEntrantJpaRepository surveyEntrantJpaRepository;
+
+    @Test
+    void aggregateTenThousandAttempts() {
+        final var seeder = new SurveyRoomSeeder(entityManager.getEntityManager());
+        final var roomId = seeder.room().getId();
+        for (int seeded = 0; seeded < ATTEMPTS; seeded += BATCH) {
+            seeder.attempts(entityManager.find(SurveyRoom.class, roomId), BATCH, false);
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        report("in-JVM entity counting", () -> countInJvm(roomId));
+        report("aggregation queries", () -> {
+            participantAnswerJpaRepository.countChoiceIdsByRoomId(roomId);
+            participantAnswerJpaRepository.countChoicesByRoomId(roomId);
+            return participantAnswerJpaRepository.countTotalsByRoomId(roomId);
+        });
+    }
+
+    private void report(final String name, final Supplier<?> run) {
+        run.get();
+        entityManager.clear();
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            final long start = System.nanoTime();
+            run.get();
+            best = Math.min(best, System.nanoTime() - start);
+            entityManager.clear();
+        }
+        System.out.printf("%-24s %,d attempts: best of %d = %,d ms%n", name, ATTEMPTS, ROUNDS, best / 1_000_000);
+    }
+
+    private Object countInJvm(final UUID roomId) {
+        final var counts = new HashMap<String, Long>();
+        for (final var entrant : surveyEntrantJpaRepository.findAllBySurveyRoomId(roomId)) {
+            final var attempt = entrant.getSurveyAttempt();
+            if (attempt == null) {
+                continue;
+            }
+            for (final var answer : attempt.getParticipantAnswers()) {
+                final var question = answer.getQuestion();
+                if (question.getType() != QuestionType.OPEN_TEXT && answer.getChoiceIds() != null) {
+                    for (final short choiceId : answer.getChoiceIds()) {
+                        counts.merge(question.getId() + ":" + choiceId, 1L, Long::sum);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+}
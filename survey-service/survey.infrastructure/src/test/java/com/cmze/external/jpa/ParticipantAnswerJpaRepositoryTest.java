@@ -0,0 +1,116 @@
+package com.cmze.external.jpa;
+
+import com.cmze.enums.QuestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = SurveyJpaTestConfiguration.class)
+class ParticipantAnswerJpaRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ParticipantAnswerJpaRepository participantAnswerJpaRepository;
+
+    @Autowired
+    private SurveyEntrantJpaRepository surveyEntrantJpaRepository;
+
+    private SurveyRoomSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        seeder = new SurveyRoomSeeder(entityManager.getEntityManager());
+    }
+
+    @Test
+    void choiceIdCountsMatchInJvmCounting() {
+        final var room = seeder.room();
+        seeder.attempts(room, 60, false);
+        seeder.attempts(seeder.room(), 15, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        final Map<String, Long> counted = new HashMap<>();
+        for (final var row : participantAnswerJpaRepository.countChoiceIdsByRoomId(room.getId())) {
+            counted.put(row.getQuestionId() + ":" + row.getChoiceId(), row.getAnswerCount());
+        }
+
+        assertThat(counted).isNotEmpty().isEqualTo(countInJvm(room.getId(), false));
+    }
+
+    @Test
+    void legacyChoiceCountsMatchInJvmCounting() {
+        final var room = seeder.room();
+        seeder.attempts(room, 60, true);
+        seeder.attempts(seeder.room(), 15, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        final Map<String, Long> counted = new HashMap<>();
+        for (final var row : participantAnswerJpaRepository.countChoicesByRoomId(room.getId())) {
+            counted.put(row.getQuestionId() + ":" + row.getAnswer(), row.getAnswerCount());
+        }
+
+        assertThat(counted).isNotEmpty().isEqualTo(countInJvm(room.getId(), true));
+    }
+
+    @Test
+    void totalsMatchInJvmCounting() {
+        final var room = seeder.room();
+        seeder.attempts(room, 40, false);
+        seeder.attempts(room, 10, true);
+        seeder.entrantsWithoutAttempt(room, 7);
+        seeder.attempts(seeder.room(), 15, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        final var entrants = surveyEntrantJpaRepository.findAllBySurveyRoomId(room.getId());
+        final var totals = participantAnswerJpaRepository.countTotalsByRoomId(room.getId());
+
+        assertThat(totals.getTotalParticipants()).isEqualTo(entrants.size()).isEqualTo(57);
+        assertThat(totals.getTotalSubmissions())
+                .isEqualTo(entrants.stream().filter(e -> e.getSurveyAttempt() != null).count())
+                .isEqualTo(50);
+    }
+
+    // the per-entity counting the aggregation queries replaced
+    private Map<String, Long> countInJvm(final UUID roomId, final boolean legacy) {
+        final Map<String, Long> counts = new HashMap<>();
+        for (final var entrant : surveyEntrantJpaRepository.findAllBySurveyRoomId(roomId)) {
+            final var attempt = entrant.getSurveyAttempt();
+            if (attempt == null) {
+                continue;
+            }
+            for (final var answer : attempt.getParticipantAnswers()) {
+                final var question = answer.getQuestion();
+                if (question.getType() == QuestionType.OPEN_TEXT) {
+                    continue;
+                }
+                if (!legacy && answer.getChoiceIds() != null) {
+                    for (final short choiceId : answer.getChoiceIds()) {
+                        counts.merge(question.getId() + ":" + choiceId, 1L, Long::sum);
+                    }
+                } else if (legacy) {
+                    for (final var value : answer.getAnswer()) {
+                        counts.merge(question.getId() + ":" + value, 1L, Long::sum);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,27 @@
+package com.cmze.external.jpa;
+
+import com.cmze.entity.ParticipantAnswer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+@Configuration
+@EntityScan(basePackageClasses = ParticipantAnswer.class)
+@EnableJpaRepositories(basePackageClasses = ParticipantAnswerJpaRepository.class)
+public class SurveyJpaTestConfiguration {
+
+    @Bean(destroyMethod = "close")
+    EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.start();
+    }
+
+    @Bean
+    DataSource dataSource(final EmbeddedPostgres embeddedPostgres) {
+        return embeddedPostgres.getPostgresDatabase();
+    }
+}
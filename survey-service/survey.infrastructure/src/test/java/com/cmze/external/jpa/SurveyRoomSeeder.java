@@ -0,0 +1,106 @@
+package com.cmze.external.jpa;
+
+import com.cmze.entity.*;
+import com.cmze.enums.QuestionType;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+public final class SurveyRoomSeeder {
+
+    private static final List<String> COLOURS = List.of("Red", "Green", "Blue");
+    private static final List<String> PETS = List.of("Cats", "Dogs", "Fish", "Birds");
+
+    private final EntityManager entityManager;
+    private final Random random = new Random(42);
+
+    public SurveyRoomSeeder(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public SurveyRoom room() {
+        final var form = new SurveyForm();
+        form.setTitle("Preferences");
+        form.setCreatorId(UUID.randomUUID());
+        form.setCreatedAt(LocalDateTime.now());
+        form.getQuestions().add(question(form, "Favourite colour?", QuestionType.SINGLE_CHOICE, COLOURS));
+        form.getQuestions().add(question(form, "Which pets?", QuestionType.MULTIPLE_CHOICE, PETS));
+        form.getQuestions().add(question(form, "Anything else?", QuestionType.OPEN_TEXT, List.of()));
+        entityManager.persist(form);
+
+        final var room = new SurveyRoom();
+        room.setSurvey(form);
+        room.setUserId(form.getCreatorId());
+        room.setMaxParticipants(1000);
+        room.setOpen(false);
+        room.setCreatedAt(LocalDateTime.now());
+        entityManager.persist(room);
+        return room;
+    }
+
+    public void attempts(final SurveyRoom room, final int count, final boolean legacy) {
+        for (int i = 0; i < count; i++) {
+            final var attempt = new SurveyAttempt();
+            attempt.setParticipant(entrant(room));
+            attempt.setSurvey(room.getSurvey());
+
+            for (final var question : room.getSurvey().getQuestions()) {
+                final var answer = new ParticipantAnswer();
+                answer.setQuestion(question);
+                answer.setSurveyAttempt(attempt);
+
+                if (question.getType() == QuestionType.OPEN_TEXT) {
+                    answer.getAnswer().add("comment " + random.nextInt(1000));
+                } else if (legacy) {
+                    answer.getAnswer().addAll(pick(question.getPossibleChoices(), question.getType()));
+                } else {
+                    final var picked = pick(question.getPossibleChoices(), question.getType());
+                    final short[] choiceIds = new short[picked.size()];
+                    for (int c = 0; c < choiceIds.length; c++) {
+                        choiceIds[c] = (short) question.choiceId(picked.get(c));
+                    }
+                    answer.setChoiceIds(choiceIds);
+                }
+                attempt.getParticipantAnswers().add(answer);
+            }
+            entityManager.persist(attempt);
+        }
+    }
+
+    public void entrantsWithoutAttempt(final SurveyRoom room, final int count) {
+        for (int i = 0; i < count; i++) {
+            entrant(room);
+        }
+    }
+
+    private SurveyEntrant entrant(final SurveyRoom room) {
+        final var entrant = new SurveyEntrant();
+        entrant.setSurveyRoom(room);
+        entrant.setUserId(UUID.randomUUID());
+        entityManager.persist(entrant);
+        return entrant;
+    }
+
+    private List<String> pick(final List<String> choices, final QuestionType type) {
+        if (type == QuestionType.SINGLE_CHOICE) {
+            return List.of(choices.get(random.nextInt(choices.size())));
+        }
+        final var picked = new ArrayList<String>();
+        for (final var choice : choices) {
+            if (random.nextBoolean()) {
+                picked.add(choice);
+            }
+        }
+        return picked;
+    }
+
+    private static Question question(final SurveyForm form, final String title, final QuestionType type, final List<String> choices) {
+        final var question = new Question();
+        question.setSurveyForm(form);
+        question.setTitle(title);
+        question.setType(type);
+        question.setPossibleChoices(new ArrayList<>(choices));
+        return question;
+    }
+}
@@ -0,0 +1,59 @@
+package com.cmze.internal.ws;
+
+import com.cmze.enums.QuestionType;
+import com.cmze.internal.ws.messages.LiveResultUpdateSocketMessage;
+import com.cmze.spi.helpers.room.FinalRoomResultDto;
+import com.cmze.spi.helpers.room.QuestionResultDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class StompPayloadEncoderBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StompPayloadEncoder encoder = new StompPayloadEncoder(objectMapper, new SimpleMeterRegistry());
+
+    @Test
+    void surveyResultPayloads() throws Exception {
+        report("results 5x4", objectMapper.writeValueAsBytes(new LiveResultUpdateSocketMessage(results(5, 4))));
+        report("results 20x6", objectMapper.writeValueAsBytes(new LiveResultUpdateSocketMessage(results(20, 6))));
+    }
+
+    private void report(final String name, final byte[] json) throws Exception {
+        final byte[] cbor = encoder.transcode(json);
+
+        for (int i = 0; i < WARMUP; i++) {
+            encoder.transcode(json);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encoder.transcode(json);
+        }
+        final long nanos = System.nanoTime() - start;
+
+        System.out.printf("%-20s json=%5d B  cbor=%5d B  (%.0f%%)  transcode=%6d ns/op%n",
+                name, json.length, cbor.length, 100.0 * cbor.length / json.length, nanos / ITERATIONS);
+    }
+
+    private static FinalRoomResultDto results(final int questions, final int options) {
+        final var results = new ArrayList<QuestionResultDto>(questions);
+        for (int q = 0; q < questions; q++) {
+            final var counts = new LinkedHashMap<String, Long>();
+            for (int o = 0; o < options; o++) {
+                counts.put("Option " + (o + 1) + " of question " + (q + 1), 1_000L + q * 17L + o * 131L);
+            }
+            results.add(new QuestionResultDto((long) q + 1, "Question number " + (q + 1) + "?",
+                    QuestionType.SINGLE_CHOICE, counts, 0, List.of()));
+        }
+        return new FinalRoomResultDto(5_000, 4_800, results);
+    }
+}
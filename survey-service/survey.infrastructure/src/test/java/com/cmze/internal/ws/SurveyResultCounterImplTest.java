@@ -0,0 +1,107 @@
+package com.cmze.internal.ws;
+
+import com.cmze.enums.QuestionType;
+import com.cmze.external.jpa.ParticipantAnswerJpaRepository;
+import com.cmze.external.jpa.SurveyEntrantJpaRepository;
+import com.cmze.external.jpa.SurveyJpaTestConfiguration;
+import com.cmze.external.jpa.SurveyRoomJpaRepository;
+import com.cmze.external.jpa.SurveyRoomSeeder;
+import com.cmze.repository.ParticipantAnswerRepositoryImpl;
+import com.cmze.repository.SurveyEntrantRepositoryImpl;
+import com.cmze.repository.SurveyRoomRepositoryImpl;
+import com.cmze.spi.helpers.room.FinalRoomResultDto;
+import com.cmze.spi.helpers.room.QuestionResultDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = SurveyJpaTestConfiguration.class)
+class SurveyResultCounterImplTest {
+
+    private static final int NEW_ATTEMPTS = 45;
+    private static final int LEGACY_ATTEMPTS = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SurveyRoomJpaRepository surveyRoomJpaRepository;
+
+    @Autowired
+    private SurveyEntrantJpaRepository surveyEntrantJpaRepository;
+
+    @Autowired
+    private ParticipantAnswerJpaRepository participantAnswerJpaRepository;
+
+    private SurveyResultCounterImpl counter;
+    private UUID roomId;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SurveyResultCounterImpl(
+                new SurveyRoomRepositoryImpl(surveyRoomJpaRepository),
+                new SurveyEntrantRepositoryImpl(surveyEntrantJpaRepository),
+                new ParticipantAnswerRepositoryImpl(participantAnswerJpaRepository),
+                20
+        );
+
+        final var seeder = new SurveyRoomSeeder(entityManager.getEntityManager());
+        final var room = seeder.room();
+        seeder.attempts(room, NEW_ATTEMPTS, false);
+        seeder.attempts(room, LEGACY_ATTEMPTS, true);
+        roomId = room.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void mixedLegacyAndChoiceIdRowsAreCountedOnce() {
+        final var results = byType(counter.calculate(roomId));
+
+        final var single = results.get(QuestionType.SINGLE_CHOICE);
+        assertThat(single.getAnswerCounts().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(NEW_ATTEMPTS + LEGACY_ATTEMPTS);
+
+        final var open = results.get(QuestionType.OPEN_TEXT);
+        assertThat(open.getOpenAnswerCount()).isEqualTo(NEW_ATTEMPTS + LEGACY_ATTEMPTS);
+    }
+
+    @Test
+    void closedRoomAggregateMatchesLiveTally() {
+        final var aggregated = counter.calculate(roomId);
+
+        final var room = surveyRoomJpaRepository.findById(roomId).orElseThrow();
+        room.setOpen(true);
+        entityManager.flush();
+        entityManager.clear();
+
+        final var live = counter.calculateLive(roomId);
+
+        assertThat(aggregated.getTotalParticipants()).isEqualTo(live.getTotalParticipants()).isEqualTo(NEW_ATTEMPTS + LEGACY_ATTEMPTS);
+        assertThat(aggregated.getTotalSubmissions()).isEqualTo(live.getTotalSubmissions());
+
+        final var liveByType = byType(live);
+        byType(aggregated).forEach((type, result) -> {
+            if (type != QuestionType.OPEN_TEXT) {
+                assertThat(result.getAnswerCounts()).isNotEmpty().isEqualTo(liveByType.get(type).getAnswerCounts());
+            }
+        });
+    }
+
+    private static Map<QuestionType, QuestionResultDto> byType(final FinalRoomResultDto result) {
+        return result.getResults().stream().collect(Collectors.toMap(QuestionResultDto::getType, Function.identity()));
+    }
+}